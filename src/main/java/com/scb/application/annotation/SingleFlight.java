@@ -0,0 +1,13 @@
+package com.scb.application.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Concurrent calls of the annotated method with equal arguments share a single invocation and its result.
+ * Only use it on read-only lookups whose result is safe to hand to several callers.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SingleFlight {
+}
@@ -0,0 +1,92 @@
+package com.scb.application.aspect;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Collapses concurrent identical calls of {@link com.scb.application.annotation.SingleFlight} methods.
+ * The first caller (the leader) runs the method; callers arriving while it is in flight (followers) wait for
+ * the leader and receive the same result or exception.
+ * <p>
+ * Runs inside the cache advice, so only cache misses are coalesced, and outside the transactional advice,
+ * so followers never open a transaction of their own.
+ * The {@code single.flight.calls} counter is tagged with the method and the caller role; the coalescing ratio
+ * is the follower count over the total.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class SingleFlightAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<CallKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Around("@annotation(com.scb.application.annotation.SingleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String methodName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        CallKey key = new CallKey(method, List.of(joinPoint.getArgs()));
+
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            counter(methodName, "follower").increment();
+            log.debug("Joining in-flight call to {} with arguments {}", methodName, key.arguments());
+            return await(existing);
+        }
+
+        counter(methodName, "leader").increment();
+        try {
+            Object result = joinPoint.proceed();
+            inFlight.remove(key, call);
+            call.complete(result);
+            return result;
+        } catch (Throwable e) {
+            inFlight.remove(key, call);
+            call.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> call) throws Throwable {
+        try {
+            return call.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    private Counter counter(String methodName, String role) {
+        return counters.computeIfAbsent(methodName + ":" + role, name -> Counter.builder("single.flight.calls")
+                .description("Calls of single-flight methods, by whether they ran the method or joined a running call")
+                .tag("method", methodName)
+                .tag("role", role)
+                .register(meterRegistry));
+    }
+
+    private record CallKey(Method method, List<Object> arguments) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.scb.application.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * The caching advice runs outside the single-flight and transactional ones, so a cache hit never opens a
+ * transaction or borrows a pooled connection, and evictions only happen once the transaction has committed.
+ * Cache sizes and TTLs are configured through {@code spring.cache.caffeine.spec}.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 2)
+public class CacheConfig {
+}
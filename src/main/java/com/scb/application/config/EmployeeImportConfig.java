@@ -0,0 +1,38 @@
+package com.scb.application.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class EmployeeImportConfig {
+
+    public static final String EMPLOYEE_IMPORT_EXECUTOR = "employeeImportExecutor";
+
+    /**
+     * Runs CSV import jobs in the background. Only a few jobs run at once since each one already
+     * keeps the password hashing pool busy; further uploads wait in a short queue and are rejected when it is full.
+     */
+    @Bean(name = EMPLOYEE_IMPORT_EXECUTOR)
+    public ThreadPoolExecutor employeeImportExecutor(
+            @Value("${employee.import.concurrent-jobs:1}") int concurrentJobs,
+            @Value("${employee.import.queued-jobs:10}") int queuedJobs,
+            MeterRegistry meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                concurrentJobs, concurrentJobs,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queuedJobs),
+                new CustomizableThreadFactory("employee-import-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "employeeImport", Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+}
@@ -0,0 +1,41 @@
+package com.scb.application.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class LoginConfig {
+
+    public static final String LOGIN_EXECUTOR = "loginExecutor";
+
+    /**
+     * Bounded pool that authenticates logins, sized to the CPU count by default, so BCrypt checks cannot
+     * occupy the request threads. When the queue is full further logins are rejected rather than queued.
+     * Pool size, active threads and queue depth are published as {@code executor.*} metrics tagged
+     * {@code name=login}.
+     */
+    @Bean(name = LOGIN_EXECUTOR)
+    public ThreadPoolExecutor loginExecutor(
+            @Value("${security.login.threads:0}") int threads,
+            @Value("${security.login.queue-capacity:100}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("login-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "login", Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+}
@@ -0,0 +1,22 @@
+package com.scb.application.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class SummaryBackfillConfig {
+
+    public static final String SUMMARY_BACKFILL_POOL = "summaryBackfillPool";
+
+    /**
+     * Fork-join pool the summary backfill splits its date range over, sized to the CPU count by default.
+     * It is kept apart from the common pool so a long backfill does not starve parallel streams.
+     */
+    @Bean(name = SUMMARY_BACKFILL_POOL, destroyMethod = "shutdown")
+    public ForkJoinPool summaryBackfillPool(@Value("${summary.backfill.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,25 @@
+package com.scb.application.config;
+
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class TaskExecutionConfig {
+
+    public static final String APPLICATION_TASK_EXECUTOR = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME;
+
+    /**
+     * The executor Boot would otherwise provide, declared here because the dedicated pools
+     * ({@link PasswordHashingConfig}, {@link EmployeeImportConfig}, {@link LoginConfig}, {@link SummaryBackfillConfig})
+     * are {@code Executor} beans too, and Boot only creates its own when there is none.
+     * Sized by {@code spring.task.execution.pool.*}; runs MVC async work such as streamed responses.
+     */
+    @Bean(name = {APPLICATION_TASK_EXECUTOR, AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder taskExecutorBuilder) {
+        return taskExecutorBuilder.build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.scb.application.constants;
+
+
+public class CacheNames {
+
+    public static final String EMPLOYEES = "employees";
+
+    public static final String DEPARTMENTS = "departments";
+
+    // Department entities used to attach employees, without a database round trip
+    public static final String DEPARTMENT_ENTITIES = "departmentEntities";
+
+    // Email, password hash and role of employees, for authentication
+    public static final String USER_CREDENTIALS = "userCredentials";
+
+    private CacheNames() {
+        throw new IllegalStateException("Constants class");
+    }
+}
@@ -0,0 +1,24 @@
+package com.scb.application.constants;
+
+
+public class PaginationConstants {
+
+    public static final int DEFAULT_LIMIT = 50;
+
+    public static final int MAX_LIMIT = 500;
+
+    public static final int DEFAULT_SUGGESTION_LIMIT = 10;
+
+    public static final int MAX_SUGGESTION_LIMIT = 50;
+
+    public static final int MAX_SUGGESTION_QUERY_LENGTH = 100;
+
+    public static final int MAX_BATCH_GET_IDS = 5000;
+
+    // Keeps every IN list under the bind-parameter limits of common databases
+    public static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    private PaginationConstants() {
+        throw new IllegalStateException("Constants class");
+    }
+}
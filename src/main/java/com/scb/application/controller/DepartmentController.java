@@ -10,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -45,14 +46,18 @@ public class DepartmentController {
     }
 
     @GetMapping
-    public ResponseEntity<List<DepartmentResponse>> getAllDepartments() {
+    public ResponseEntity<List<DepartmentResponse>> getAllDepartments(WebRequest webRequest) {
+        String eTag = departmentService.getDepartmentsETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         List<DepartmentResponse> departments = departmentService.getAllDepartments();
-        return ResponseEntity.ok(departments);
+        return ResponseEntity.ok().eTag(eTag).body(departments);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<DepartmentResponse> getDepartmentById(@PathVariable Long id) {
         DepartmentResponse department = departmentService.getDepartmentById(id);
-        return ResponseEntity.ok(department);
+        return ResponseEntity.ok().eTag(String.valueOf(department.getVersion())).body(department);
     }
 }
\ No newline at end of file
@@ -1,16 +1,43 @@
 package com.scb.application.controller;
 
 import com.scb.application.annotation.AdminOnly;
+import com.scb.application.dto.request.EmployeeBatchGetRequest;
+import com.scb.application.dto.request.EmployeeBulkCreateRequest;
+import com.scb.application.dto.request.EmployeeBulkDeleteRequest;
+import com.scb.application.dto.request.EmployeeBulkUpdateRequest;
 import com.scb.application.dto.request.EmployeeRequest;
+import com.scb.application.dto.request.EmployeeSearchRequest;
+import com.scb.application.dto.request.SalaryAdjustmentRequest;
+import com.scb.application.dto.response.CursorPageResponse;
+import com.scb.application.dto.response.EmployeeBatchGetResponse;
+import com.scb.application.dto.response.EmployeeBulkCreateResponse;
+import com.scb.application.dto.response.EmployeeBulkOperationResponse;
+import com.scb.application.dto.response.EmployeeImportJobResponse;
 import com.scb.application.dto.response.EmployeeResponse;
+import com.scb.application.dto.response.EmployeeSuggestionResponse;
+import com.scb.application.dto.response.PageResponse;
+import com.scb.application.dto.response.SalaryAdjustmentResponse;
+import com.scb.application.enums.ExportFormat;
+import com.scb.application.service.EmployeeBulkService;
+import com.scb.application.service.EmployeeExportService;
+import com.scb.application.service.EmployeeImportService;
 import com.scb.application.service.EmployeeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.net.URI;
 import java.util.List;
 
 @Slf4j
@@ -20,6 +47,9 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeBulkService employeeBulkService;
+    private final EmployeeImportService employeeImportService;
 
     @PostMapping
     @AdminOnly
@@ -27,6 +57,67 @@ public class EmployeeController {
         EmployeeResponse createdEmployee = employeeService.createEmployee(employeeRequest);
         return new ResponseEntity<>(createdEmployee, HttpStatus.CREATED);
     }
+
+    @PostMapping("/bulk")
+    @AdminOnly
+    public ResponseEntity<EmployeeBulkCreateResponse> createEmployees(@Valid @RequestBody EmployeeBulkCreateRequest bulkCreateRequest) {
+        EmployeeBulkCreateResponse createdEmployees = employeeBulkService.createEmployees(bulkCreateRequest);
+        // Partly created requests answer 207, with the committed IDs and the error in the body
+        return new ResponseEntity<>(createdEmployees, createdEmployees.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+    }
+
+    @PatchMapping("/bulk")
+    @AdminOnly
+    public ResponseEntity<EmployeeBulkOperationResponse> updateEmployees(@Valid @RequestBody EmployeeBulkUpdateRequest bulkUpdateRequest) {
+        EmployeeBulkOperationResponse updatedEmployees = employeeBulkService.updateEmployees(bulkUpdateRequest);
+        return ResponseEntity.ok(updatedEmployees);
+    }
+
+    @DeleteMapping("/bulk")
+    @AdminOnly
+    public ResponseEntity<EmployeeBulkOperationResponse> deleteEmployees(@Valid @RequestBody EmployeeBulkDeleteRequest bulkDeleteRequest) {
+        EmployeeBulkOperationResponse deletedEmployees = employeeBulkService.deleteEmployees(bulkDeleteRequest);
+        return ResponseEntity.ok(deletedEmployees);
+    }
+
+    @PostMapping("/salary-adjustments")
+    @AdminOnly
+    public ResponseEntity<SalaryAdjustmentResponse> adjustSalaries(@Valid @RequestBody SalaryAdjustmentRequest salaryAdjustmentRequest) {
+        SalaryAdjustmentResponse adjustment = employeeBulkService.adjustSalaries(salaryAdjustmentRequest);
+        return ResponseEntity.ok(adjustment);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @AdminOnly
+    public ResponseEntity<EmployeeImportJobResponse> importEmployees(@RequestParam("file") MultipartFile file) {
+        EmployeeImportJobResponse importJob = employeeImportService.startImport(file);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{jobId}")
+                .buildAndExpand(importJob.getJobId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(importJob);
+    }
+
+    @GetMapping("/import/{jobId}")
+    @AdminOnly
+    public ResponseEntity<EmployeeImportJobResponse> getImportJob(@PathVariable String jobId) {
+        EmployeeImportJobResponse importJob = employeeImportService.getImportJob(jobId);
+        return ResponseEntity.ok(importJob);
+    }
+
+    @GetMapping("/import/{jobId}/errors")
+    @AdminOnly
+    public ResponseEntity<Resource> getImportErrors(@PathVariable String jobId) {
+        Resource errors = employeeImportService.getImportErrors(jobId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("import-" + jobId + "-errors.csv")
+                        .build()
+                        .toString())
+                .body(errors);
+    }
+
     @PutMapping("/{id}")
     @AdminOnly
     public ResponseEntity<EmployeeResponse> updateEmployee(
@@ -44,15 +135,57 @@ public class EmployeeController {
     }
 
     @GetMapping
-    public ResponseEntity<List<EmployeeResponse>> getAllEmployees() {
-        List<EmployeeResponse> employees = employeeService.getAllEmployees();
+    public ResponseEntity<CursorPageResponse<EmployeeResponse>> getEmployees(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long departmentId,
+            WebRequest webRequest) {
+        String eTag = employeeService.getEmployeesETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        CursorPageResponse<EmployeeResponse> employees = employeeService.getEmployees(cursor, limit, departmentId);
+        return ResponseEntity.ok().eTag(eTag).body(employees);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<EmployeeResponse>> searchEmployees(@ModelAttribute EmployeeSearchRequest searchRequest) {
+        PageResponse<EmployeeResponse> employees = employeeService.searchEmployees(searchRequest);
+        return ResponseEntity.ok(employees);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<EmployeeSuggestionResponse>> suggestEmployees(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        List<EmployeeSuggestionResponse> suggestions = employeeService.suggestEmployees(q, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    @GetMapping("/export")
+    @AdminOnly
+    public ResponseEntity<StreamingResponseBody> exportEmployees(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        StreamingResponseBody body = outputStream -> employeeExportService.exportEmployees(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("employees." + exportFormat.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @PostMapping("/batch-get")
+    public ResponseEntity<EmployeeBatchGetResponse> getEmployeesByIds(@Valid @RequestBody EmployeeBatchGetRequest batchGetRequest) {
+        EmployeeBatchGetResponse employees = employeeService.getEmployeesByIds(batchGetRequest);
         return ResponseEntity.ok(employees);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<EmployeeResponse> getEmployeeById(@PathVariable Long id) {
         EmployeeResponse employee = employeeService.getEmployeeById(id);
-        return ResponseEntity.ok(employee);
+        return ResponseEntity.ok().eTag(employee.getETag()).body(employee);
     }
 
 }
@@ -0,0 +1,58 @@
+package com.scb.application.controller;
+
+import com.scb.application.annotation.AdminOnly;
+import com.scb.application.dto.response.SummaryBackfillResponse;
+import com.scb.application.service.DailySummaryService;
+import com.scb.application.service.SummaryBackfillService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@Slf4j
+@RestController
+@RequestMapping("/summaries")
+@RequiredArgsConstructor
+public class SummaryController {
+
+    private final DailySummaryService dailySummaryService;
+    private final SummaryBackfillService summaryBackfillService;
+
+    /**
+     * Every range is revalidated against the version of the summaries, since a backfill rewrites past days too.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> getSummaries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long departmentId,
+            WebRequest webRequest) {
+        dailySummaryService.checkSummaryRange(from, to);
+        StreamingResponseBody body = outputStream -> dailySummaryService.writeSummaries(from, to, departmentId, outputStream);
+
+        String eTag = dailySummaryService.getSummariesETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        // checkNotModified already wrote the ETag, and streamed bodies would send it twice
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @PostMapping("/backfill")
+    @AdminOnly
+    public ResponseEntity<SummaryBackfillResponse> backfillSummaries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(summaryBackfillService.backfillSummaries(from, to));
+    }
+}
@@ -0,0 +1,20 @@
+package com.scb.application.dto.projection;
+
+import java.time.LocalDate;
+
+/**
+ * One department's headcount and payroll on one day, read without loading summary or department entities.
+ * Salary figures are null for days rebuilt by a backfill.
+ */
+public record DailySummaryPoint(
+        LocalDate summaryDate,
+        Long departmentId,
+        String departmentName,
+        Integer employeeCount,
+        Integer newHires,
+        Double totalSalary,
+        Double averageSalary,
+        Double minSalary,
+        Double maxSalary
+) {
+}
@@ -0,0 +1,17 @@
+package com.scb.application.dto.projection;
+
+import java.time.LocalDate;
+import java.util.Date;
+
+/**
+ * The department and hire date of one employee, which is all a headcount backfill needs.
+ */
+public record DepartmentHire(
+        Long departmentId,
+        LocalDate hireDate
+) {
+
+    public DepartmentHire(Long departmentId, Date hireDate) {
+        this(departmentId, new java.sql.Date(hireDate.getTime()).toLocalDate());
+    }
+}
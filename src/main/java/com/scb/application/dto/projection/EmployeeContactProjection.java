@@ -0,0 +1,11 @@
+package com.scb.application.dto.projection;
+
+/**
+ * The searchable text of an employee, used to build the suggestion index.
+ */
+public record EmployeeContactProjection(
+        Long id,
+        String name,
+        String email
+) {
+}
@@ -0,0 +1,14 @@
+package com.scb.application.dto.projection;
+
+/**
+ * The fields of an employee that authentication and the authenticated principal need, and nothing else.
+ * Immutable, so it can be cached and turned into a fresh {@code UserDetails} for every request.
+ */
+public record EmployeeCredentials(
+        Long id,
+        String email,
+        String password,
+        String role,
+        Long departmentId
+) {
+}
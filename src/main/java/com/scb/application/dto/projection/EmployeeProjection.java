@@ -0,0 +1,23 @@
+package com.scb.application.dto.projection;
+
+import java.util.Date;
+
+/**
+ * Read-only view of an employee joined with its department name.
+ * Built directly by JPQL constructor expressions, so it is never managed by the persistence context
+ * and never carries the password hash.
+ * The employee and department versions identify the response representation for ETags.
+ */
+public record EmployeeProjection(
+        Long id,
+        String name,
+        String email,
+        String role,
+        Double salary,
+        Date hireDate,
+        Long departmentId,
+        String departmentName,
+        Long version,
+        Long departmentVersion
+) {
+}
@@ -0,0 +1,18 @@
+package com.scb.application.dto.projection;
+
+/**
+ * Salary figures of the employees matched by an adjustment, before and after it, plus the ID range
+ * the chunked update walks. Sums and bounds are null when nothing matches.
+ */
+public record SalaryAdjustmentAggregate(
+        Long count,
+        Double totalBefore,
+        Double minBefore,
+        Double maxBefore,
+        Double totalAfter,
+        Double minAfter,
+        Double maxAfter,
+        Long minId,
+        Long maxId
+) {
+}
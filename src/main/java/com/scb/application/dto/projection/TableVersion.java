@@ -0,0 +1,17 @@
+package com.scb.application.dto.projection;
+
+/**
+ * Version of a whole table, read from its indexes without loading its rows.
+ * The database draws a new {@code change_version} for every inserted or updated row, so inserts and updates
+ * raise the latest change version and deletes lower the count. The ETag therefore changes whenever any row
+ * of the table does, including writes from other instances or plain SQL.
+ */
+public record TableVersion(
+        Long count,
+        Long lastChangeVersion
+) {
+
+    public String toETag() {
+        return count + "." + lastChangeVersion;
+    }
+}
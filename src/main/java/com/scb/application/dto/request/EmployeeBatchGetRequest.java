@@ -0,0 +1,21 @@
+package com.scb.application.dto.request;
+
+import com.scb.application.constants.PaginationConstants;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBatchGetRequest {
+
+    @NotEmpty(message = "At least one employee ID is required")
+    @Size(max = PaginationConstants.MAX_BATCH_GET_IDS, message = "At most " + PaginationConstants.MAX_BATCH_GET_IDS + " employee IDs can be requested at once")
+    private List<@NotNull(message = "Employee ID cannot be null") Long> ids;
+}
@@ -0,0 +1,19 @@
+package com.scb.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBulkCreateRequest {
+
+    @NotEmpty(message = "At least one employee is required")
+    private List<@Valid @NotNull(message = "Employee cannot be null") EmployeeRequest> employees;
+}
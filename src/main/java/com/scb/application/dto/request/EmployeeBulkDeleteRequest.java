@@ -0,0 +1,18 @@
+package com.scb.application.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBulkDeleteRequest {
+
+    @NotEmpty(message = "At least one employee ID is required")
+    private List<@NotNull(message = "Employee ID cannot be null") Long> ids;
+}
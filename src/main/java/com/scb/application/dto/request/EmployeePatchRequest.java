@@ -0,0 +1,35 @@
+package com.scb.application.dto.request;
+
+import com.scb.application.constants.RegexConstants;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Partial update of one employee; fields left null keep their current value.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePatchRequest {
+
+    @NotNull(message = "Employee ID is required")
+    private Long id;
+
+    @Pattern(regexp = RegexConstants.NAME_PATTERN, message = "Name must be valid and contain only letters, spaces, and common name characters")
+    private String name;
+
+    @Email(message = "Email should be valid")
+    @Pattern(regexp = ".*\\S.*", message = "Email cannot be blank")
+    private String email;
+
+    @DecimalMin(value = "0.0", inclusive = false, message = "Salary cannot be negative")
+    @Digits(integer = 10, fraction = 2, message = "Salary must be a valid number")
+    private Double salary;
+
+    @Pattern(regexp = RegexConstants.DATE_PATTERN, message = "Hire date must be in the format yyyy-MM-dd")
+    private String hireDate;
+
+    private Long departmentId;
+}
@@ -0,0 +1,38 @@
+package com.scb.application.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Filters, paging and sorting for the employee search. Every filter is optional.
+ * {@code sort} takes the form {@code field} or {@code field,asc|desc}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSearchRequest {
+
+    private Long departmentId;
+
+    private Double minSalary;
+
+    private Double maxSalary;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate hiredFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate hiredTo;
+
+    private String role;
+
+    private Integer page;
+
+    private Integer size;
+
+    private String sort;
+}
@@ -0,0 +1,41 @@
+package com.scb.application.dto.request;
+
+import com.scb.application.enums.SalaryAdjustmentType;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Salary change for every employee matching the criteria; at least one criterion is required.
+ * A {@code PERCENTAGE} value of 4 raises salaries by 4%, an {@code AMOUNT} is added as is; negative values lower them.
+ * Hire dates and salary bounds are inclusive.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryAdjustmentRequest {
+
+    private Long departmentId;
+
+    private LocalDate hiredFrom;
+
+    private LocalDate hiredTo;
+
+    private Double minSalary;
+
+    private Double maxSalary;
+
+    @NotNull(message = "Adjustment type is required")
+    private SalaryAdjustmentType type;
+
+    @NotNull(message = "Adjustment value is required")
+    @Digits(integer = 10, fraction = 2, message = "Adjustment value must be a valid number")
+    private BigDecimal value;
+
+    private boolean dryRun;
+}
@@ -1,5 +1,6 @@
 package com.scb.application.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,4 +14,7 @@ public class DepartmentResponse {
 
     private Long id;
     private String name;
+
+    @JsonIgnore
+    private Long version;
 }
\ No newline at end of file
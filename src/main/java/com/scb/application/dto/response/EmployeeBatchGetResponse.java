@@ -0,0 +1,21 @@
+package com.scb.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Employees found for a batch lookup, in request order, and the requested IDs that do not exist.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBatchGetResponse {
+
+    private List<EmployeeResponse> employees;
+    private List<Long> missingIds;
+}
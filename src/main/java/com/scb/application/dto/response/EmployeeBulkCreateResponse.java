@@ -0,0 +1,25 @@
+package com.scb.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bulk create: the new employee IDs, in request order.
+ * When a chunk fails after earlier ones committed, {@code failed} counts the requests left uncreated
+ * (the last ones of the request) and {@code error} says why.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBulkCreateResponse {
+
+    private int created;
+    private List<Long> ids;
+    private int failed;
+    private String error;
+}
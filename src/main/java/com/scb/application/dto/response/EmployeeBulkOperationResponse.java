@@ -0,0 +1,22 @@
+package com.scb.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bulk update or delete: one outcome per requested ID, in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBulkOperationResponse {
+
+    private int succeeded;
+    private int failed;
+    private List<EmployeeBulkOutcome> results;
+}
@@ -0,0 +1,18 @@
+package com.scb.application.dto.response;
+
+import com.scb.application.enums.BulkOutcomeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBulkOutcome {
+
+    private Long id;
+    private BulkOutcomeStatus status;
+    private String message;
+}
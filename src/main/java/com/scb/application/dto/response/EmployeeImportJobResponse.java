@@ -0,0 +1,28 @@
+package com.scb.application.dto.response;
+
+import com.scb.application.enums.ImportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Progress of a CSV import; rows that failed are listed in the job's error file.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeImportJobResponse {
+
+    private String jobId;
+    private ImportJobStatus status;
+    private long processedRows;
+    private long importedRows;
+    private long failedRows;
+    private Instant createdAt;
+    private Instant finishedAt;
+    private String message;
+}
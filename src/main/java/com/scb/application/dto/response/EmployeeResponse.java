@@ -1,5 +1,6 @@
 package com.scb.application.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,4 +23,15 @@ public class EmployeeResponse {
     private Date hireDate;
     private Long departmentId;
     private String departmentName;
+
+    // The response changes whenever the employee or its department name changes
+    @JsonIgnore
+    private Long version;
+    @JsonIgnore
+    private Long departmentVersion;
+
+    @JsonIgnore
+    public String getETag() {
+        return version + "." + departmentVersion;
+    }
 }
@@ -0,0 +1,17 @@
+package com.scb.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSuggestionResponse {
+
+    private Long id;
+    private String name;
+    private String email;
+}
@@ -0,0 +1,22 @@
+package com.scb.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Salaries of the matched employees before and after the adjustment.
+ * A dry run reports the same figures without changing anything.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryAdjustmentResponse {
+
+    private boolean dryRun;
+    private long affected;
+    private SalaryStatistics before;
+    private SalaryStatistics after;
+}
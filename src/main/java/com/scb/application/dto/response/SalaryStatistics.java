@@ -0,0 +1,18 @@
+package com.scb.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryStatistics {
+
+    private double total;
+    private double average;
+    private Double min;
+    private Double max;
+}
@@ -0,0 +1,24 @@
+package com.scb.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * The date range that was rebuilt and how many department summaries were written for it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SummaryBackfillResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private long days;
+    private int departments;
+    private int summaries;
+}
@@ -30,6 +30,28 @@ public class DailySummary {
     @Column(name = "employee_count", nullable = false)
     private Integer employeeCount;
 
+    @Column(name = "total_salary")
+    private Double totalSalary;
+
+    @Column(name = "average_salary")
+    private Double averageSalary;
+
+    @Column(name = "min_salary")
+    private Double minSalary;
+
+    @Column(name = "max_salary")
+    private Double maxSalary;
+
+    @Column(name = "new_hires", nullable = false)
+    private Integer newHires = 0;
+
+    /**
+     * Drawn by the database on every insert and update, for {@link com.scb.application.dto.projection.TableVersion}.
+     * Hibernate never writes it, so a loaded value may be older than the row.
+     */
+    @Column(name = "change_version", insertable = false, updatable = false)
+    private Long changeVersion;
+
     public DailySummary(LocalDate summaryDate, Department department, Integer employeeCount) {
         this.summaryDate = summaryDate;
         this.department = department;
@@ -21,6 +21,17 @@ public class Department {
     @Column(name = "name", unique = true, nullable = false)
     private String name;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * Drawn by the database on every insert and update, for {@link com.scb.application.dto.projection.TableVersion}.
+     * Hibernate never writes it, so a loaded value may be older than the row.
+     */
+    @Column(name = "change_version", insertable = false, updatable = false)
+    private Long changeVersion;
+
     // Constructor with name
     public Department(String name) {
         this.name = name;
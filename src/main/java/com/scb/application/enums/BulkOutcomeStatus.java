@@ -0,0 +1,9 @@
+package com.scb.application.enums;
+
+public enum BulkOutcomeStatus {
+    UPDATED,
+    DELETED,
+    NOT_FOUND,
+    CONFLICT,
+    REJECTED
+}
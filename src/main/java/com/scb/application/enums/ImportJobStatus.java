@@ -0,0 +1,8 @@
+package com.scb.application.enums;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package com.scb.application.enums;
+
+public enum SalaryAdjustmentType {
+    PERCENTAGE,
+    AMOUNT
+}
@@ -0,0 +1,57 @@
+package com.scb.application.event;
+
+import java.util.Objects;
+
+/**
+ * Published by the employee service for every create, update and delete.
+ * Listeners should use {@code @TransactionalEventListener} so they only see committed changes.
+ *
+ * @param before the employee before the change, or null when it was created
+ * @param after the employee after the change, or null when it was deleted
+ */
+public record EmployeeChangedEvent(
+        ChangeType type,
+        EmployeeSnapshot before,
+        EmployeeSnapshot after
+) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static EmployeeChangedEvent created(EmployeeSnapshot after) {
+        return new EmployeeChangedEvent(ChangeType.CREATED, null, after);
+    }
+
+    public static EmployeeChangedEvent updated(EmployeeSnapshot before, EmployeeSnapshot after) {
+        return new EmployeeChangedEvent(ChangeType.UPDATED, before, after);
+    }
+
+    public static EmployeeChangedEvent deleted(EmployeeSnapshot before) {
+        return new EmployeeChangedEvent(ChangeType.DELETED, before, null);
+    }
+
+    public Long employeeId() {
+        return after != null ? after.id() : before.id();
+    }
+
+    /**
+     * @return whether an existing employee was deleted or had their email or role changed,
+     * so credentials cached and tokens issued under the old email can no longer be trusted
+     */
+    public boolean changesCredentials() {
+        return before != null && (after == null
+                || !Objects.equals(before.email(), after.email())
+                || !Objects.equals(before.role(), after.role()));
+    }
+
+    /**
+     * Not a credentials change: tokens keep the department they were issued with, and only logins read the new one.
+     * @return whether an existing employee moved to another department
+     */
+    public boolean changesDepartment() {
+        return before != null && after != null && !Objects.equals(before.departmentId(), after.departmentId());
+    }
+}
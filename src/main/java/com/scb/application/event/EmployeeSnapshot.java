@@ -0,0 +1,26 @@
+package com.scb.application.event;
+
+import com.scb.application.entity.Employee;
+
+/**
+ * Immutable copy of the employee fields that other components react to.
+ * Taken inside the transaction, so listeners never touch a detached entity.
+ */
+public record EmployeeSnapshot(
+        Long id,
+        String name,
+        String email,
+        String role,
+        Long departmentId
+) {
+
+    public static EmployeeSnapshot of(Employee employee) {
+        return new EmployeeSnapshot(
+                employee.getId(),
+                employee.getName(),
+                employee.getEmail(),
+                employee.getRole(),
+                employee.getDepartment() != null ? employee.getDepartment().getId() : null
+        );
+    }
+}
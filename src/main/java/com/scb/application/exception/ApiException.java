@@ -6,22 +6,33 @@ import lombok.Getter;
 public class ApiException extends RuntimeException {
     private final ErrorCode errorCode;
     private final int statusCode;
+    private final Long retryAfterSeconds;
 
     public ApiException(String message, ErrorCode errorCode, int statusCode) {
         super(message);
         this.errorCode = errorCode;
         this.statusCode = statusCode;
+        this.retryAfterSeconds = null;
     }
 
     public ApiException(ErrorCode errorCode, int statusCode) {
         super(errorCode.getDefaultMessage());
         this.errorCode = errorCode;
         this.statusCode = statusCode;
+        this.retryAfterSeconds = null;
     }
 
     public ApiException(String message, Throwable cause, ErrorCode errorCode, int statusCode) {
         super(message, cause);
         this.errorCode = errorCode;
         this.statusCode = statusCode;
+        this.retryAfterSeconds = null;
+    }
+
+    public ApiException(String message, ErrorCode errorCode, int statusCode, long retryAfterSeconds) {
+        super(message);
+        this.errorCode = errorCode;
+        this.statusCode = statusCode;
+        this.retryAfterSeconds = retryAfterSeconds;
     }
 }
@@ -27,6 +27,7 @@ public enum ErrorCode {
     RESOURCE_NOT_FOUND(3000, "Resource not found"),
     DUPLICATE_RESOURCE(3001, "Resource already exists"),
     OPERATION_FAILED(3002, "Operation failed"),
+    CONCURRENT_MODIFICATION(3003, "Resource was modified concurrently"),
     
     // System errors (9000-9999)
     INTERNAL_SERVER_ERROR(9000, "Internal server error"),
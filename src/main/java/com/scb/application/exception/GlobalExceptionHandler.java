@@ -2,14 +2,20 @@ package com.scb.application.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.support.MissingServletRequestPartException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -26,7 +32,11 @@ public class GlobalExceptionHandler {
         logger.error("API Exception: {} (Error Code: {}, Error ID: {})", 
                 ex.getMessage(), ex.getErrorCode().getCode(), errorResponse.getErrorId(), ex);
 
-        return ResponseEntity.status(ex.getStatusCode()).body(errorResponse);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(ex.getStatusCode());
+        if (ex.getRetryAfterSeconds() != null) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        }
+        return response.body(errorResponse);
     }
 
     @ExceptionHandler(BadCredentialsException.class)
@@ -49,6 +59,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
     }
 
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.CONCURRENT_MODIFICATION, "The resource was modified by another request, please retry");
+
+        logger.error("Optimistic Locking Failure: {} (Error ID: {})",
+                ex.getMessage(), errorResponse.getErrorId(), ex);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleMaxUploadSizeExceeded(MaxUploadSizeExceededException ex) {
+        ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.INVALID_INPUT, "The uploaded file is too large");
+
+        logger.error("Upload Size Exceeded: {} (Error ID: {})",
+                ex.getMessage(), errorResponse.getErrorId(), ex);
+
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(errorResponse);
+    }
+
+    @ExceptionHandler(MissingServletRequestPartException.class)
+    public ResponseEntity<ErrorResponse> handleMissingRequestPart(MissingServletRequestPartException ex) {
+        ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.INVALID_INPUT, "Required part '" + ex.getRequestPartName() + "' is missing");
+
+        logger.error("Missing Request Part: {} (Error ID: {})",
+                ex.getMessage(), errorResponse.getErrorId(), ex);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> fieldErrors = new HashMap<>();
@@ -67,6 +107,31 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<ErrorResponse> handleBindException(BindException ex) {
+        Map<String, String> fieldErrors = new HashMap<>();
+        ex.getBindingResult().getFieldErrors().forEach(error ->
+                fieldErrors.put(error.getField(), "Invalid value: " + error.getRejectedValue()));
+
+        ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.VALIDATION_ERROR)
+                .addErrors(fieldErrors);
+
+        logger.error("Bind Exception: {} (Error ID: {})",
+                ex.getMessage(), errorResponse.getErrorId(), ex);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejected(TaskRejectedException ex) {
+        ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.SERVICE_UNAVAILABLE, "Too many requests are in progress, please retry later");
+
+        logger.error("Task Rejected: {} (Error ID: {})",
+                ex.getMessage(), errorResponse.getErrorId(), ex);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
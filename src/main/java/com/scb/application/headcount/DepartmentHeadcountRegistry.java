@@ -0,0 +1,155 @@
+package com.scb.application.headcount;
+
+import com.scb.application.entity.Department;
+import com.scb.application.event.EmployeeChangedEvent;
+import com.scb.application.event.EmployeeSnapshot;
+import com.scb.application.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live employee count per department, so readers never scan the employees table.
+ * <p>
+ * Counts are seeded from the database at startup and follow committed employee changes from then on.
+ * Each department has its own {@link LongAdder}, so concurrent hires and transfers do not contend.
+ * Callers that must not act on drift, for example from changes made directly in the database, reconcile the one
+ * department they need; the differences found are counted as {@code department.headcount.drift}.
+ */
+@Slf4j
+@Component
+public class DepartmentHeadcountRegistry {
+
+    private static final int SYNCHRONIZE_ATTEMPTS = 3;
+
+    private final EmployeeRepository employeeRepository;
+    private final Counter driftCounter;
+    private final Map<Long, LongAdder> headcounts = new ConcurrentHashMap<>();
+
+    public DepartmentHeadcountRegistry(EmployeeRepository employeeRepository, MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        this.driftCounter = Counter.builder("department.headcount.drift")
+                .description("Employees by which the in-memory headcounts differed from the database")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        long seeded = synchronize();
+        log.info("Department headcounts seeded with {} employees across {} departments", seeded, headcounts.size());
+    }
+
+    /**
+     * Brings the count of one department in line with the database, counting only that department's employees.
+     * A change committed while the database is read may or may not be in the result, so while the count moves
+     * meanwhile it is read again, a few times at most, and otherwise returned as read without correcting anything.
+     * @return the department's headcount in the database
+     */
+    public long reconcile(Department department) {
+        LongAdder headcount = adder(department.getId());
+        long actual = 0;
+        for (int attempt = 0; attempt < SYNCHRONIZE_ATTEMPTS; attempt++) {
+            long expected = headcount.sum();
+            actual = employeeRepository.countByDepartment(department);
+            if (headcount.sum() == expected) {
+                long drift = Math.abs(actual - expected);
+                headcount.add(actual - expected);
+                if (drift > 0) {
+                    driftCounter.increment(drift);
+                    log.debug("Headcount of department {} reconciled, corrected by {}", department.getId(), drift);
+                }
+                return actual;
+            }
+        }
+        log.debug("Headcount of department {} kept changing while being read, left uncorrected", department.getId());
+        return actual;
+    }
+
+    /**
+     * A change committed while the database is read may or may not be in the result, so a department whose
+     * count moved meanwhile can be neither overwritten nor corrected safely. Such departments are read again,
+     * a few times at most, and otherwise left to be reconciled when needed.
+     */
+    private long synchronize() {
+        long drift = 0;
+        Set<Long> pending = null;
+        for (int attempt = 0; attempt < SYNCHRONIZE_ATTEMPTS; attempt++) {
+            Map<Long, Long> before = snapshot();
+            Map<Long, Long> actual = new HashMap<>();
+            for (Object[] row : employeeRepository.countEmployeesByDepartment()) {
+                actual.put((Long) row[0], (Long) row[1]);
+            }
+
+            Set<Long> departments = new HashSet<>(before.keySet());
+            departments.addAll(actual.keySet());
+            if (pending != null) {
+                departments.retainAll(pending);
+            }
+            Set<Long> changed = new HashSet<>();
+            for (Long departmentId : departments) {
+                LongAdder headcount = adder(departmentId);
+                long expected = before.getOrDefault(departmentId, 0L);
+                if (headcount.sum() != expected) {
+                    changed.add(departmentId);
+                    continue;
+                }
+                long difference = actual.getOrDefault(departmentId, 0L) - expected;
+                headcount.add(difference);
+                drift += Math.abs(difference);
+            }
+            if (changed.isEmpty()) {
+                return drift;
+            }
+            pending = changed;
+        }
+        log.debug("Headcounts of departments {} kept changing while being read, left for the next reconciliation", pending);
+        return drift;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        Long from = departmentId(event.before());
+        Long to = departmentId(event.after());
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        if (from != null) {
+            adder(from).decrement();
+        }
+        if (to != null) {
+            adder(to).increment();
+        }
+    }
+
+    public long getHeadcount(Long departmentId) {
+        LongAdder headcount = headcounts.get(departmentId);
+        return headcount == null ? 0 : headcount.sum();
+    }
+
+    private Map<Long, Long> snapshot() {
+        Map<Long, Long> snapshot = new HashMap<>();
+        headcounts.forEach((departmentId, headcount) -> snapshot.put(departmentId, headcount.sum()));
+        return snapshot;
+    }
+
+    private LongAdder adder(Long departmentId) {
+        return headcounts.computeIfAbsent(departmentId, id -> new LongAdder());
+    }
+
+    private static Long departmentId(EmployeeSnapshot snapshot) {
+        return snapshot == null ? null : snapshot.departmentId();
+    }
+}
@@ -0,0 +1,100 @@
+package com.scb.application.headcount;
+
+import com.scb.application.dto.projection.DepartmentHire;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hire dates of the current employees, sorted per department, for rebuilding past headcounts without a
+ * query per day. Employees have no leaving date, so the headcount of a department on a day is the number
+ * of its employees hired on or before that day; employees who were deleted since are not counted.
+ * Instances are immutable and can be swept by several threads at once.
+ */
+public final class HireTimeline {
+
+    private final Long[] departmentIds;
+    private final long[][] hireDays;
+
+    /**
+     * @param departmentIds the departments to count, in the order the headcounts are returned
+     * @param hires the hires to count, in any order; hires of other departments are ignored
+     */
+    public HireTimeline(List<Long> departmentIds, List<DepartmentHire> hires) {
+        this.departmentIds = departmentIds.toArray(Long[]::new);
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < this.departmentIds.length; i++) {
+            positions.put(this.departmentIds[i], i);
+        }
+
+        int[] sizes = new int[this.departmentIds.length];
+        for (DepartmentHire hire : hires) {
+            Integer position = positions.get(hire.departmentId());
+            if (position != null) {
+                sizes[position]++;
+            }
+        }
+        this.hireDays = new long[this.departmentIds.length][];
+        for (int i = 0; i < sizes.length; i++) {
+            hireDays[i] = new long[sizes[i]];
+        }
+        int[] filled = new int[sizes.length];
+        for (DepartmentHire hire : hires) {
+            Integer position = positions.get(hire.departmentId());
+            if (position != null) {
+                hireDays[position][filled[position]++] = hire.hireDate().toEpochDay();
+            }
+        }
+        for (long[] days : hireDays) {
+            Arrays.sort(days);
+        }
+    }
+
+    public Long[] getDepartmentIds() {
+        return departmentIds.clone();
+    }
+
+    /**
+     * Sweeps the days from {@code from} to {@code to} once, with one cursor per department that only moves forward.
+     * The cursors start at a binary search, so any date range can be swept independently of the others.
+     * @return the headcounts indexed by day, counted from {@code from}, and then by department position
+     */
+    public long[][] headcounts(LocalDate from, LocalDate to) {
+        long first = from.toEpochDay();
+        long last = to.toEpochDay();
+        int[] cursors = new int[departmentIds.length];
+        for (int d = 0; d < cursors.length; d++) {
+            cursors[d] = countBefore(hireDays[d], first);
+        }
+
+        long[][] headcounts = new long[(int) (last - first + 1)][departmentIds.length];
+        for (long day = first; day <= last; day++) {
+            long[] row = headcounts[(int) (day - first)];
+            for (int d = 0; d < cursors.length; d++) {
+                long[] days = hireDays[d];
+                while (cursors[d] < days.length && days[cursors[d]] <= day) {
+                    cursors[d]++;
+                }
+                row[d] = cursors[d];
+            }
+        }
+        return headcounts;
+    }
+
+    private static int countBefore(long[] days, long day) {
+        int low = 0;
+        int high = days.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (days[middle] < day) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -18,6 +18,7 @@ public class DepartmentMapper {
         return DepartmentResponse.builder()
                 .id(department.getId())
                 .name(department.getName())
+                .version(department.getVersion())
                 .build();
     }
 }
\ No newline at end of file
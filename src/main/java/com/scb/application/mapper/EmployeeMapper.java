@@ -1,16 +1,14 @@
 package com.scb.application.mapper;
 
 import com.scb.application.constants.RoleConstants;
+import com.scb.application.dto.projection.EmployeeProjection;
 import com.scb.application.dto.request.EmployeeRequest;
 import com.scb.application.dto.response.EmployeeResponse;
 import com.scb.application.entity.Department;
 import com.scb.application.entity.Employee;
 import com.scb.application.exception.ApiException;
 import com.scb.application.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.text.ParseException;
@@ -18,33 +16,33 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 
 @Component
-@RequiredArgsConstructor
 public class EmployeeMapper {
 
-    private final PasswordEncoder passwordEncoder;
-
-    @Value("${employee.default.password}")
-    private String defaultPassword;
-
-    public Employee toEntity(EmployeeRequest employeeRequest, Department department) {
+    /**
+     * @param encodedPassword the already hashed password; hashing is left to the caller so it can
+     *                        happen outside any transaction
+     */
+    public Employee toEntity(EmployeeRequest employeeRequest, Department department, String encodedPassword) {
         Employee employee = new Employee();
         employee.setName(employeeRequest.getName());
         employee.setEmail(employeeRequest.getEmail());
         employee.setRole(RoleConstants.USER);
         employee.setSalary(employeeRequest.getSalary());
 
+        employee.setHireDate(parseHireDate(employeeRequest.getHireDate()));
+        employee.setDepartment(department);
+        employee.setPassword(encodedPassword);
+        return employee;
+    }
+
+    public Date parseHireDate(String hireDate) {
         try {
             SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
             dateFormat.setLenient(false); // Strict parsing to ensure valid dates
-            Date hireDate = dateFormat.parse(employeeRequest.getHireDate());
-            employee.setHireDate(hireDate);
+            return dateFormat.parse(hireDate);
         } catch (ParseException e) {
             throw new ApiException("Invalid hire date format. Expected format: yyyy-MM-dd", ErrorCode.VALIDATION_ERROR, HttpStatus.BAD_REQUEST.value());
         }
-
-        employee.setDepartment(department);
-        employee.setPassword(passwordEncoder.encode(defaultPassword));
-        return employee;
     }
 
     public EmployeeResponse toResponseDto(Employee employee) {
@@ -57,6 +55,23 @@ public class EmployeeMapper {
                 .hireDate(employee.getHireDate())
                 .departmentId(employee.getDepartment().getId())
                 .departmentName(employee.getDepartment().getName())
+                .version(employee.getVersion())
+                .departmentVersion(employee.getDepartment().getVersion())
+                .build();
+    }
+
+    public EmployeeResponse toResponseDto(EmployeeProjection employee) {
+        return EmployeeResponse.builder()
+                .id(employee.id())
+                .name(employee.name())
+                .email(employee.email())
+                .role(employee.role())
+                .salary(employee.salary())
+                .hireDate(employee.hireDate())
+                .departmentId(employee.departmentId())
+                .departmentName(employee.departmentName())
+                .version(employee.version())
+                .departmentVersion(employee.departmentVersion())
                 .build();
     }
 }
@@ -1,13 +1,22 @@
 package com.scb.application.repository;
 
+import com.scb.application.dto.projection.DailySummaryPoint;
+import com.scb.application.dto.projection.TableVersion;
 import com.scb.application.entity.DailySummary;
 import com.scb.application.entity.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DailySummaryRepository extends JpaRepository<DailySummary, Long> {
@@ -15,4 +24,83 @@ public interface DailySummaryRepository extends JpaRepository<DailySummary, Long
     List<DailySummary> findBySummaryDate(LocalDate summaryDate);
     
     Optional<DailySummary> findBySummaryDateAndDepartment(LocalDate summaryDate, Department department);
+
+    @Query("SELECT new com.scb.application.dto.projection.TableVersion("
+            + "COUNT(s), COALESCE(MAX(s.changeVersion), 0)) FROM DailySummary s")
+    TableVersion findTableVersion();
+
+    /**
+     * Forward-only stream of the summaries in a date range, one department after the other and each in date order,
+     * optionally limited to one department. The date range is served by the (summary_date, department_id) index.
+     * Must be consumed and closed inside a read-only transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.scb.application.dto.projection.DailySummaryPoint("
+            + "s.summaryDate, d.id, d.name, s.employeeCount, s.newHires, "
+            + "s.totalSalary, s.averageSalary, s.minSalary, s.maxSalary) "
+            + "FROM DailySummary s JOIN s.department d "
+            + "WHERE s.summaryDate BETWEEN :from AND :to AND (:departmentId IS NULL OR d.id = :departmentId) "
+            + "ORDER BY d.id, s.summaryDate")
+    Stream<DailySummaryPoint> streamRange(@Param("from") LocalDate from,
+                                          @Param("to") LocalDate to,
+                                          @Param("departmentId") Long departmentId);
+
+    /**
+     * Writes the summary of every department for the date in one statement. A single grouped pass over the
+     * employees yields the headcount, payroll figures and hires of the day per department, and the unique
+     * (summary_date, department_id) index decides between update and insert.
+     * Departments without employees get zero counts and payroll, and no average, minimum or maximum salary.
+     * @return the number of summaries inserted or updated
+     */
+    @Modifying
+    @Query(value = """
+            MERGE INTO daily_summary s
+            USING (
+                SELECT d.id AS department_id,
+                       COUNT(e.id) AS employee_count,
+                       COUNT(CASE WHEN e.hire_date = :summaryDate THEN 1 END) AS new_hires,
+                       COALESCE(SUM(e.salary), 0) AS total_salary,
+                       AVG(e.salary) AS average_salary,
+                       MIN(e.salary) AS min_salary,
+                       MAX(e.salary) AS max_salary
+                FROM departments d
+                LEFT JOIN employees e ON e.department_id = d.id
+                GROUP BY d.id
+            ) c
+            ON s.summary_date = :summaryDate AND s.department_id = c.department_id
+            WHEN MATCHED THEN
+                UPDATE SET employee_count = c.employee_count, new_hires = c.new_hires, total_salary = c.total_salary,
+                    average_salary = c.average_salary, min_salary = c.min_salary, max_salary = c.max_salary
+            WHEN NOT MATCHED THEN
+                INSERT (summary_date, department_id, employee_count, new_hires,
+                        total_salary, average_salary, min_salary, max_salary)
+                VALUES (:summaryDate, c.department_id, c.employee_count, c.new_hires,
+                        c.total_salary, c.average_salary, c.min_salary, c.max_salary)
+            """, nativeQuery = true)
+    int upsertSummaries(@Param("summaryDate") LocalDate summaryDate);
+
+    /**
+     * Writes many summaries in one statement, for backfilling a range of dates.
+     * The arrays are paired by position: one entry per summary date and department.
+     * Only the headcount and hires are written; salary figures of existing summaries are kept
+     * and those of new ones are left empty.
+     * @return the number of summaries inserted or updated
+     */
+    @Modifying
+    @Query(value = """
+            MERGE INTO daily_summary s
+            USING UNNEST(CAST(:summaryDates AS DATE ARRAY), CAST(:departmentIds AS BIGINT ARRAY),
+                    CAST(:employeeCounts AS BIGINT ARRAY), CAST(:newHires AS BIGINT ARRAY))
+                    AS c(summary_date, department_id, employee_count, new_hires)
+            ON s.summary_date = c.summary_date AND s.department_id = c.department_id
+            WHEN MATCHED THEN
+                UPDATE SET employee_count = c.employee_count, new_hires = c.new_hires
+            WHEN NOT MATCHED THEN
+                INSERT (summary_date, department_id, employee_count, new_hires)
+                VALUES (c.summary_date, c.department_id, c.employee_count, c.new_hires)
+            """, nativeQuery = true)
+    int upsertSummaryRange(@Param("summaryDates") LocalDate[] summaryDates,
+                           @Param("departmentIds") Long[] departmentIds,
+                           @Param("employeeCounts") Long[] employeeCounts,
+                           @Param("newHires") Long[] newHires);
 }
\ No newline at end of file
@@ -1,12 +1,30 @@
 package com.scb.application.repository;
 
+import com.scb.application.constants.CacheNames;
+import com.scb.application.dto.projection.TableVersion;
 import com.scb.application.entity.Department;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
 
-}
\ No newline at end of file
+    /**
+     * Cached lookup used to attach employees to their department.
+     * The returned entity is detached, so it must only be read or used as an association target.
+     */
+    @Cacheable(cacheNames = CacheNames.DEPARTMENT_ENTITIES, unless = "#result == null")
+    Optional<Department> findCachedById(Long id);
+
+    @Query("SELECT new com.scb.application.dto.projection.TableVersion("
+            + "COUNT(d), COALESCE(MAX(d.changeVersion), 0)) FROM Department d")
+    TableVersion findTableVersion();
+
+    @Query("SELECT d.id FROM Department d ORDER BY d.id")
+    List<Long> findAllIds();
+}
@@ -0,0 +1,20 @@
+package com.scb.application.repository;
+
+import java.util.Date;
+
+/**
+ * Field values applied to a set of employees by one bulk update; null fields are left unchanged.
+ * Employees receiving identical changes are updated by the same statement.
+ */
+public record EmployeeChanges(
+        String name,
+        String email,
+        Double salary,
+        Date hireDate,
+        Long departmentId
+) {
+
+    public boolean isEmpty() {
+        return name == null && email == null && salary == null && hireDate == null && departmentId == null;
+    }
+}
@@ -1,23 +1,134 @@
 package com.scb.application.repository;
 
+import com.scb.application.constants.CacheNames;
+import com.scb.application.dto.projection.DepartmentHire;
+import com.scb.application.dto.projection.EmployeeContactProjection;
+import com.scb.application.dto.projection.EmployeeCredentials;
+import com.scb.application.dto.projection.EmployeeProjection;
+import com.scb.application.dto.projection.TableVersion;
 import com.scb.application.entity.Department;
 import com.scb.application.entity.Employee;
+import com.scb.application.event.EmployeeSnapshot;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
+
+    /**
+     * Loads the employee together with its department, since every caller maps both.
+     */
+    @Override
+    @EntityGraph(attributePaths = "department")
+    Optional<Employee> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "department")
+    List<Employee> findAll();
 
     Optional<Employee> findByEmail(String email);
 
+    /**
+     * Cached lookup of what authentication needs, without loading the employee entity.
+     * Entries are evicted when the employee's email, role or department changes or the employee is deleted.
+     */
+    @Cacheable(cacheNames = CacheNames.USER_CREDENTIALS, unless = "#result == null")
+    @Query("SELECT new com.scb.application.dto.projection.EmployeeCredentials(e.id, e.email, e.password, e.role, e.department.id) "
+            + "FROM Employee e WHERE e.email = :email")
+    Optional<EmployeeCredentials> findCredentialsByEmail(@Param("email") String email);
+
     boolean existsByEmail(String email);
 
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Resolves the current holders of the given emails, so uniqueness can be checked for many employees at once.
+     */
+    @Query("SELECT new com.scb.application.dto.projection.EmployeeContactProjection(e.id, e.name, e.email) "
+            + "FROM Employee e WHERE e.email IN :emails")
+    List<EmployeeContactProjection> findContactsByEmailIn(@Param("emails") Collection<String> emails);
+
+    /**
+     * Loads the fields bulk updates and deletes report in their change events, without loading entities.
+     */
+    @Query("SELECT new com.scb.application.event.EmployeeSnapshot(e.id, e.name, e.email, e.role, e.department.id) "
+            + "FROM Employee e WHERE e.id IN :ids")
+    List<EmployeeSnapshot> findSnapshotsByIdIn(@Param("ids") Collection<Long> ids);
+
     int countByDepartment(Department department);
 
     @Query("SELECT e.department.id, COUNT(e) FROM Employee e GROUP BY e.department.id")
     List<Object[]> countEmployeesByDepartment();
+
+    @Query("SELECT new com.scb.application.dto.projection.DepartmentHire(e.department.id, e.hireDate) "
+            + "FROM Employee e WHERE e.hireDate <= :hiredTo")
+    List<DepartmentHire> findHiresUpTo(@Param("hiredTo") Date hiredTo);
+
+    @Query("SELECT new com.scb.application.dto.projection.TableVersion("
+            + "COUNT(e), COALESCE(MAX(e.changeVersion), 0)) FROM Employee e")
+    TableVersion findTableVersion();
+
+    /**
+     * Selects exactly the columns of an employee response, joined with the department name.
+     * Projections are not managed, so reads skip dirty-checking snapshots and never touch the password hash.
+     */
+    String PROJECTION_QUERY = "SELECT new com.scb.application.dto.projection.EmployeeProjection("
+            + "e.id, e.name, e.email, e.role, e.salary, e.hireDate, d.id, d.name, e.version, d.version) "
+            + "FROM Employee e JOIN e.department d ";
+
+    @Query(PROJECTION_QUERY + "WHERE e.id = :id")
+    Optional<EmployeeProjection> findProjectionById(@Param("id") Long id);
+
+    /**
+     * Resolves many employees in one statement; the department comes from the join of the projection query.
+     */
+    @Query(PROJECTION_QUERY + "WHERE e.id IN :ids")
+    List<EmployeeProjection> findProjectionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Keyset page over all employees, served by the primary key index.
+     * The pageable only bounds the window size; ordering is fixed by the query.
+     */
+    @Query(PROJECTION_QUERY + "WHERE e.id > :afterId ORDER BY e.id")
+    List<EmployeeProjection> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Keyset page over the employees of one department, served by the (department_id, id) index.
+     */
+    @Query(PROJECTION_QUERY + "WHERE d.id = :departmentId AND e.id > :afterId ORDER BY e.id")
+    List<EmployeeProjection> findDepartmentPageAfter(@Param("departmentId") Long departmentId,
+                                                     @Param("afterId") Long afterId,
+                                                     Pageable pageable);
+
+    /**
+     * Forward-only stream of every employee for bulk export.
+     * Must be consumed and closed inside a read-only transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(PROJECTION_QUERY + "ORDER BY e.id")
+    Stream<EmployeeProjection> streamAllForExport();
+
+    /**
+     * Forward-only stream of the name and email of every employee, used to build the suggestion index.
+     * Must be consumed and closed inside a read-only transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.scb.application.dto.projection.EmployeeContactProjection(e.id, e.name, e.email) "
+            + "FROM Employee e")
+    Stream<EmployeeContactProjection> streamAllContacts();
 }
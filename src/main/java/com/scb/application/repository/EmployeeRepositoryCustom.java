@@ -0,0 +1,50 @@
+package com.scb.application.repository;
+
+import com.scb.application.dto.projection.EmployeeProjection;
+import com.scb.application.dto.projection.SalaryAdjustmentAggregate;
+import com.scb.application.entity.Employee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+/**
+ * Criteria-based queries that Spring Data cannot derive, mixed into {@link EmployeeRepository}.
+ */
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * Search employees matching the specification, returning projections rather than entities.
+     * Filtering, sorting and paging all run in the database.
+     */
+    Page<EmployeeProjection> search(Specification<Employee> specification, Pageable pageable);
+
+    /**
+     * Apply the same changes to every listed employee in a single UPDATE statement, bumping their versions.
+     * Bypasses the persistence context, so callers must not hold loaded copies of these employees.
+     * @return the number of updated rows
+     */
+    int updateAll(Collection<Long> ids, EmployeeChanges changes);
+
+    /**
+     * Compute the salary figures of the matched employees before and after the change in one statement,
+     * using the same rounding as {@link #adjustSalaries}.
+     */
+    SalaryAdjustmentAggregate aggregateSalaryAdjustment(Specification<Employee> specification, SalaryChange change);
+
+    /**
+     * Find where the next window of matched employees ends, walking matched IDs rather than the ID range,
+     * so sparse IDs do not produce empty windows.
+     * @return the ID of the {@code windowSize}-th matched employee after {@code afterId},
+     * or null when fewer employees are left
+     */
+    Long findSalaryAdjustmentWindowEnd(Specification<Employee> specification, long afterId, int windowSize);
+
+    /**
+     * Apply the change to the matched employees whose IDs fall in the given range with a single UPDATE,
+     * bumping their versions. Callers walk the matched IDs in windows to keep each statement small.
+     * @return the number of updated rows
+     */
+    int adjustSalaries(Specification<Employee> specification, SalaryChange change, long fromId, long toId);
+}
@@ -0,0 +1,155 @@
+package com.scb.application.repository;
+
+import com.scb.application.dto.projection.EmployeeProjection;
+import com.scb.application.dto.projection.SalaryAdjustmentAggregate;
+import com.scb.application.entity.Department;
+import com.scb.application.entity.Employee;
+import com.scb.application.enums.SalaryAdjustmentType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<EmployeeProjection> search(Specification<Employee> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<EmployeeProjection> query = cb.createQuery(EmployeeProjection.class);
+        Root<Employee> root = query.from(Employee.class);
+        Join<Employee, Department> department = root.join("department");
+        query.select(cb.construct(EmployeeProjection.class,
+                root.get("id"), root.get("name"), root.get("email"), root.get("role"),
+                root.get("salary"), root.get("hireDate"), department.get("id"), department.get("name"),
+                root.get("version"), department.get("version")));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<EmployeeProjection> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // Skip the count query when the first page is already incomplete
+        if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        return new PageImpl<>(content, pageable, count(specification));
+    }
+
+    @Override
+    public int updateAll(Collection<Long> ids, EmployeeChanges changes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Employee> update = cb.createCriteriaUpdate(Employee.class);
+        Root<Employee> root = update.from(Employee.class);
+        if (changes.name() != null) {
+            update.set(root.<String>get("name"), changes.name());
+        }
+        if (changes.email() != null) {
+            update.set(root.<String>get("email"), changes.email());
+        }
+        if (changes.salary() != null) {
+            update.set(root.<Double>get("salary"), changes.salary());
+        }
+        if (changes.hireDate() != null) {
+            update.set(root.<Date>get("hireDate"), changes.hireDate());
+        }
+        if (changes.departmentId() != null) {
+            update.set(root.<Department>get("department"), entityManager.getReference(Department.class, changes.departmentId()));
+        }
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.where(root.get("id").in(ids));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public SalaryAdjustmentAggregate aggregateSalaryAdjustment(Specification<Employee> specification, SalaryChange change) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SalaryAdjustmentAggregate> query = cb.createQuery(SalaryAdjustmentAggregate.class);
+        Root<Employee> root = query.from(Employee.class);
+        Expression<Double> salary = root.get("salary");
+        Expression<Double> adjusted = adjustedSalary(cb, salary, change);
+        query.select(cb.construct(SalaryAdjustmentAggregate.class,
+                cb.count(root), cb.sum(salary), cb.min(salary), cb.max(salary),
+                cb.sum(adjusted), cb.min(adjusted), cb.max(adjusted),
+                cb.min(root.<Long>get("id")), cb.max(root.<Long>get("id"))));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public Long findSalaryAdjustmentWindowEnd(Specification<Employee> specification, long afterId, int windowSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Employee> root = query.from(Employee.class);
+        query.select(root.get("id"));
+        Predicate after = cb.greaterThan(root.<Long>get("id"), afterId);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        query.where(predicate == null ? after : cb.and(after, predicate));
+        query.orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setFirstResult(windowSize - 1)
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public int adjustSalaries(Specification<Employee> specification, SalaryChange change, long fromId, long toId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Employee> update = cb.createCriteriaUpdate(Employee.class);
+        Root<Employee> root = update.from(Employee.class);
+        update.set(root.<Double>get("salary"), adjustedSalary(cb, root.get("salary"), change));
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        // The specifications only reference employee columns and never use the query argument
+        Predicate range = cb.between(root.<Long>get("id"), fromId, toId);
+        Predicate predicate = specification.toPredicate(root, null, cb);
+        update.where(predicate == null ? range : cb.and(range, predicate));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private static Expression<Double> adjustedSalary(CriteriaBuilder cb, Expression<Double> salary, SalaryChange change) {
+        // Literals rather than bound values, since H2 cannot type a parameter inside the aggregate select list
+        Expression<Double> adjusted = change.type() == SalaryAdjustmentType.PERCENTAGE
+                ? cb.prod(salary, cb.literal(change.factor()))
+                : cb.sum(salary, cb.literal(change.value().doubleValue()));
+        return cb.function("round", Double.class, adjusted, cb.literal(2));
+    }
+
+    private long count(Specification<Employee> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Employee> root = query.from(Employee.class);
+        query.select(cb.count(root));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,21 @@
+package com.scb.application.repository;
+
+import com.scb.application.enums.SalaryAdjustmentType;
+
+import java.math.BigDecimal;
+
+/**
+ * How a salary adjustment changes each matched salary; the database rounds results to cents.
+ */
+public record SalaryChange(
+        SalaryAdjustmentType type,
+        BigDecimal value
+) {
+
+    /**
+     * @return the multiplier for percentage changes, e.g. 1.04 for +4%
+     */
+    public double factor() {
+        return BigDecimal.ONE.add(value.movePointLeft(2)).doubleValue();
+    }
+}
@@ -0,0 +1,63 @@
+package com.scb.application.repository.specification;
+
+import com.scb.application.entity.Employee;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Date;
+
+/**
+ * Composable filters over employees. Each factory returns {@code null} when its argument is absent,
+ * which {@link Specification#and(Specification)} treats as "no restriction".
+ * The predicates only reference employee columns, so they can back selects, counts and bulk updates alike.
+ */
+public class EmployeeSpecifications {
+
+    private EmployeeSpecifications() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static Specification<Employee> inDepartment(Long departmentId) {
+        if (departmentId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("department").get("id"), departmentId);
+    }
+
+    public static Specification<Employee> salaryAtLeast(Double minSalary) {
+        if (minSalary == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("salary"), minSalary);
+    }
+
+    public static Specification<Employee> salaryAtMost(Double maxSalary) {
+        if (maxSalary == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("salary"), maxSalary);
+    }
+
+    public static Specification<Employee> hiredOnOrAfter(LocalDate hiredFrom) {
+        if (hiredFrom == null) {
+            return null;
+        }
+        Date from = java.sql.Date.valueOf(hiredFrom);
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("hireDate"), from);
+    }
+
+    public static Specification<Employee> hiredOnOrBefore(LocalDate hiredTo) {
+        if (hiredTo == null) {
+            return null;
+        }
+        Date to = java.sql.Date.valueOf(hiredTo);
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("hireDate"), to);
+    }
+
+    public static Specification<Employee> hasRole(String role) {
+        if (role == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("role"), role);
+    }
+}
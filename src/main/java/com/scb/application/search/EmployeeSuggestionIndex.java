@@ -0,0 +1,611 @@
+package com.scb.application.search;
+
+import com.scb.application.dto.projection.EmployeeContactProjection;
+import com.scb.application.dto.response.EmployeeSuggestionResponse;
+import com.scb.application.event.EmployeeChangedEvent;
+import com.scb.application.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory n-gram index over employee names and emails for type-ahead lookups.
+ * <p>
+ * Every posting list is kept in rank order, shortest name first and then lowest ID, so lookups walk the lists in
+ * the order suggestions are returned and stop at the first employee that could no longer make the cut.
+ * The one to three character prefixes of every word have two lists: employees whose name or email starts with
+ * the prefix, and the other employees with a word starting with it. Short queries read their suggestions straight
+ * off these lists, and longer queries find their prefix and word-prefix matches there before falling back to
+ * trigram posting lists for substring matches and typos, ranked on the share of query trigrams a candidate
+ * contains. Trigrams carried by a large share of the employees, such as those of a shared email domain, are only
+ * probed and never walked for fuzzy candidates. Employees live in reusable integer slots, so memory stays
+ * proportional to the number of employees and their distinct grams.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeSuggestionIndex {
+
+    private static final int GRAM_SIZE = 3;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final long PREFIX_MARKER = 1L << 62;
+    private static final long LEADING_MARKER = 1L << 61;
+
+    // A fuzzy candidate must contain at least half of the query trigrams
+    private static final double FUZZY_MIN_SHARE = 0.5;
+
+    // Trigrams of more employees than this share, and at least this many, are not walked for fuzzy candidates
+    private static final double COMMON_GRAM_SHARE = 0.05;
+    private static final int COMMON_GRAM_MIN_SIZE = 1024;
+
+    private static final int TIER_FUZZY = 0;
+    private static final int TIER_SUBSTRING = 1;
+    private static final int TIER_WORD_PREFIX = 2;
+    private static final int TIER_PREFIX = 3;
+
+    private final EmployeeRepository employeeRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] emails = new String[INITIAL_CAPACITY];
+    private String[] searchableNames = new String[INITIAL_CAPACITY];
+    private String[] searchableEmails = new String[INITIAL_CAPACITY];
+    private int slotCount;
+
+    /**
+     * Loads every employee once the application is ready.
+     * The write lock is held while loading, so changes committed meanwhile are applied on top of the fresh index.
+     * Employees are appended to the posting lists as they arrive, and every list is put in rank order at the end.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            clear();
+            try (Stream<EmployeeContactProjection> employees = employeeRepository.streamAllContacts()) {
+                employees.forEach(employee -> upsert(employee.id(), employee.name(), employee.email(), false));
+            }
+            sortPostings();
+            log.info("Suggestion index built with {} employees and {} grams", slotsById.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.after() == null) {
+            remove(event.employeeId());
+        } else {
+            put(event.after().id(), event.after().name(), event.after().email());
+        }
+    }
+
+    public void put(long id, String name, String email) {
+        lock.writeLock().lock();
+        try {
+            upsert(id, name, email, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.remove(id);
+            if (slot != null) {
+                release(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the best matches for a name or email fragment.
+     * Prefix matches rank above word-prefix matches, then substring matches, then fuzzy matches.
+     * @param query the fragment typed so far
+     * @param limit the maximum number of suggestions
+     * @return the suggestions, best first
+     */
+    public List<EmployeeSuggestionResponse> suggest(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            TopMatches best = new TopMatches(limit);
+            if (normalized.length() < GRAM_SIZE) {
+                collectShortMatches(normalized, best);
+            } else {
+                collectGramMatches(normalized, best);
+            }
+
+            List<Match> ranked = best.ranked();
+            List<EmployeeSuggestionResponse> suggestions = new ArrayList<>(ranked.size());
+            for (Match match : ranked) {
+                suggestions.add(EmployeeSuggestionResponse.builder()
+                        .id(ids[match.slot()])
+                        .name(names[match.slot()])
+                        .email(emails[match.slot()])
+                        .build());
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A short query only matches the start of a word, and its word-prefix lists are already in rank order,
+     * so its suggestions are the first entries of the leading list followed by the other one.
+     */
+    private void collectShortMatches(String query, TopMatches best) {
+        collectRanked(postings.get(wordPrefixKey(query, true)), TIER_PREFIX, best);
+        collectRanked(postings.get(wordPrefixKey(query, false)), TIER_WORD_PREFIX, best);
+    }
+
+    private void collectRanked(Postings candidates, int tier, TopMatches best) {
+        if (candidates == null) {
+            return;
+        }
+        for (int i = 0; i < candidates.size && best.admits(candidates.slots[i], tier, 1.0); i++) {
+            best.offer(candidates.slots[i], tier, 1.0);
+        }
+    }
+
+    /**
+     * Only an employee containing every query trigram can contain the query. Those employees are collected
+     * first: prefix matches among the leading employees of the query's first three characters, word-prefix
+     * matches among the other employees with a word starting with them, and substring matches from the
+     * rarest trigram list. Fuzzy candidates are merged last, and only while they could still make the cut.
+     */
+    private void collectGramMatches(String query, TopMatches best) {
+        Set<Long> queryGrams = new LinkedHashSet<>();
+        addTrigrams(query, queryGrams);
+        int gramCount = queryGrams.size();
+
+        List<Postings> lists = new ArrayList<>(gramCount);
+        for (Long gram : queryGrams) {
+            Postings candidates = postings.get(gram);
+            if (candidates != null) {
+                lists.add(candidates);
+            }
+        }
+        lists.sort(Comparator.comparingInt(Postings::size));
+
+        if (lists.size() == gramCount) {
+            String start = query.substring(0, GRAM_SIZE);
+            Postings leading = postings.get(wordPrefixKey(start, true));
+            Postings inner = postings.get(wordPrefixKey(start, false));
+            collectContaining(query, lists, leading, TIER_PREFIX, best);
+            collectContaining(query, lists, inner, TIER_WORD_PREFIX, best);
+            collectContaining(query, lists, null, TIER_SUBSTRING, best, leading, inner);
+        }
+        collectFuzzyMatches(lists, gramCount, best);
+    }
+
+    /**
+     * Offers the employees of {@code within}, or of any list when it is null, that contain every query trigram
+     * and were not walked before. The smaller of {@code within} and the rarest trigram list is walked in rank
+     * order, so the walk ends at the first employee that could not make the cut even at {@code maxTier}.
+     */
+    private void collectContaining(String query, List<Postings> lists, Postings within, int maxTier,
+                                   TopMatches best, Postings... walkedBefore) {
+        Postings driver = lists.get(0);
+        if (within != null) {
+            driver = within.size < driver.size ? within : driver;
+        } else if (maxTier > TIER_SUBSTRING) {
+            return;
+        }
+        for (int i = 0; i < driver.size; i++) {
+            int slot = driver.slots[i];
+            if (!best.admits(slot, maxTier, 1.0)) {
+                return;
+            }
+            if ((within != null && !within.contains(slot)) || !containsAll(lists, slot) || containedInAny(walkedBefore, slot)) {
+                continue;
+            }
+            best.offer(slot, tier(slot, query), 1.0);
+        }
+    }
+
+    /**
+     * Merges the posting lists of the query trigrams, rarest first, for employees sharing some of them but not all;
+     * employees sharing every trigram were ranked by their tier already.
+     * A candidate sharing {@code minShared} trigrams must appear in at least one of the
+     * {@code lists - minShared + 1} rarest lists, so only those are walked, common ones excepted, and the rest are
+     * probed by binary search, giving up on a candidate once it can no longer reach {@code minShared}.
+     * The merge runs in rank order and ends once even the best share left could not make the cut.
+     */
+    private void collectFuzzyMatches(List<Postings> lists, int gramCount, TopMatches best) {
+        int minShared = Math.max(1, (int) Math.ceil(gramCount * FUZZY_MIN_SHARE));
+        if (lists.size() < minShared || minShared == gramCount) {
+            return;
+        }
+
+        int walked = lists.size() - minShared + 1;
+        int commonSize = Math.max(COMMON_GRAM_MIN_SIZE, (int) (slotsById.size() * COMMON_GRAM_SHARE));
+        while (walked > 0 && lists.get(walked - 1).size > commonSize) {
+            walked--;
+        }
+        double bestShare = (double) Math.min(gramCount - 1, lists.size()) / gramCount;
+        int[] cursors = new int[walked];
+        while (true) {
+            int slot = -1;
+            for (int i = 0; i < walked; i++) {
+                Postings candidates = lists.get(i);
+                if (cursors[i] < candidates.size && (slot < 0 || compareRank(candidates.slots[cursors[i]], slot) < 0)) {
+                    slot = candidates.slots[cursors[i]];
+                }
+            }
+            if (slot < 0 || !best.admits(slot, TIER_FUZZY, bestShare)) {
+                return;
+            }
+
+            int shared = 0;
+            for (int i = 0; i < walked; i++) {
+                Postings candidates = lists.get(i);
+                if (cursors[i] < candidates.size && candidates.slots[cursors[i]] == slot) {
+                    shared++;
+                    cursors[i]++;
+                }
+            }
+            for (int i = walked; i < lists.size() && shared + lists.size() - i >= minShared; i++) {
+                if (lists.get(i).contains(slot)) {
+                    shared++;
+                }
+            }
+            if (shared >= minShared && shared < gramCount) {
+                best.offer(slot, TIER_FUZZY, (double) shared / gramCount);
+            }
+        }
+    }
+
+    private static boolean containsAll(List<Postings> lists, int slot) {
+        for (Postings candidates : lists) {
+            if (!candidates.contains(slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containedInAny(Postings[] lists, int slot) {
+        for (Postings candidates : lists) {
+            if (candidates != null && candidates.contains(slot)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int tier(int slot, String query) {
+        String name = searchableNames[slot];
+        String email = searchableEmails[slot];
+        if (name.startsWith(query) || email.startsWith(query)) {
+            return TIER_PREFIX;
+        }
+        if (startsAnyWord(name, query) || startsAnyWord(email, query)) {
+            return TIER_WORD_PREFIX;
+        }
+        if (name.contains(query) || email.contains(query)) {
+            return TIER_SUBSTRING;
+        }
+        return TIER_FUZZY;
+    }
+
+    private static boolean startsAnyWord(String text, String query) {
+        for (int from = text.indexOf(query); from >= 0; from = text.indexOf(query, from + 1)) {
+            if (from == 0 || !Character.isLetterOrDigit(text.charAt(from - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The order of every posting list: shorter names first, then lower IDs, as suggestions of the same tier and share.
+     */
+    private int compareRank(int slot, int other) {
+        int byLength = Integer.compare(searchableNames[slot].length(), searchableNames[other].length());
+        return byLength != 0 ? byLength : Long.compare(ids[slot], ids[other]);
+    }
+
+    private void upsert(long id, String name, String email, boolean keepSorted) {
+        Integer existing = slotsById.get(id);
+        if (existing != null) {
+            release(existing);
+        }
+        int slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.pop();
+        ensureCapacity(slotCount);
+
+        ids[slot] = id;
+        names[slot] = name;
+        emails[slot] = email;
+        searchableNames[slot] = normalize(name);
+        searchableEmails[slot] = normalize(email);
+        slotsById.put(id, slot);
+
+        for (Long gram : gramsOf(slot)) {
+            Postings slots = postings.computeIfAbsent(gram, key -> new Postings());
+            if (keepSorted) {
+                slots.add(slot);
+            } else {
+                slots.append(slot);
+            }
+        }
+    }
+
+    private void release(int slot) {
+        for (Long gram : gramsOf(slot)) {
+            Postings slots = postings.get(gram);
+            if (slots != null && slots.remove(slot) && slots.size == 0) {
+                postings.remove(gram);
+            }
+        }
+        names[slot] = null;
+        emails[slot] = null;
+        searchableNames[slot] = null;
+        searchableEmails[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    private void sortPostings() {
+        Integer[] order = slotsById.values().toArray(new Integer[0]);
+        Arrays.sort(order, this::compareRank);
+        int[] positions = new int[slotCount];
+        for (int position = 0; position < order.length; position++) {
+            positions[order[position]] = position;
+        }
+        for (Postings slots : postings.values()) {
+            slots.sortBy(positions);
+        }
+    }
+
+    private void clear() {
+        postings.clear();
+        slotsById.clear();
+        freeSlots.clear();
+        ids = new long[INITIAL_CAPACITY];
+        names = new String[INITIAL_CAPACITY];
+        emails = new String[INITIAL_CAPACITY];
+        searchableNames = new String[INITIAL_CAPACITY];
+        searchableEmails = new String[INITIAL_CAPACITY];
+        slotCount = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, newCapacity);
+        names = Arrays.copyOf(names, newCapacity);
+        emails = Arrays.copyOf(emails, newCapacity);
+        searchableNames = Arrays.copyOf(searchableNames, newCapacity);
+        searchableEmails = Arrays.copyOf(searchableEmails, newCapacity);
+    }
+
+    /**
+     * Distinct grams of an indexed employee: every trigram plus the one to three character prefix of every word,
+     * where a word starts the text or follows a character that is not a letter or digit.
+     * A prefix is marked as leading when the name or email starts with it.
+     */
+    private Set<Long> gramsOf(int slot) {
+        String name = searchableNames[slot];
+        String email = searchableEmails[slot];
+        Set<Long> grams = new LinkedHashSet<>();
+        for (String text : new String[]{name, email}) {
+            addTrigrams(text, grams);
+            for (int start = 0; start < text.length(); start++) {
+                if (start > 0 && Character.isLetterOrDigit(text.charAt(start - 1))) {
+                    continue;
+                }
+                for (int end = start + 1; end <= Math.min(start + GRAM_SIZE, text.length()); end++) {
+                    String prefix = text.substring(start, end);
+                    grams.add(wordPrefixKey(prefix, name.startsWith(prefix) || email.startsWith(prefix)));
+                }
+            }
+        }
+        return grams;
+    }
+
+    private static void addTrigrams(String text, Set<Long> grams) {
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(((long) GRAM_SIZE << 48)
+                    | ((long) text.charAt(i) << 32)
+                    | ((long) text.charAt(i + 1) << 16)
+                    | text.charAt(i + 2));
+        }
+    }
+
+    private static long wordPrefixKey(String prefix, boolean leading) {
+        long key = PREFIX_MARKER | (leading ? LEADING_MARKER : 0) | ((long) prefix.length() << 48);
+        for (int i = 0; i < prefix.length(); i++) {
+            key |= (long) prefix.charAt(i) << (32 - 16 * i);
+        }
+        return key;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Match(int slot, int tier, double share, int nameLength, long id) {
+
+        // Ascending from the worst match, so the head of a min-heap is the first one to evict
+        static final Comparator<Match> ORDER = Comparator.comparingInt(Match::tier)
+                .thenComparingDouble(Match::share)
+                .thenComparing(Comparator.comparingInt(Match::nameLength).reversed())
+                .thenComparing(Comparator.comparingLong(Match::id).reversed());
+    }
+
+    /**
+     * The best matches found so far, in a min-heap of at most {@code limit} entries.
+     */
+    private final class TopMatches {
+
+        private final int limit;
+        private final PriorityQueue<Match> heap;
+
+        TopMatches(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(limit + 1, Match.ORDER);
+        }
+
+        /**
+         * @return whether the employee would displace the worst match kept if it matched with this tier and share
+         */
+        boolean admits(int slot, int tier, double share) {
+            if (heap.size() < limit) {
+                return true;
+            }
+            Match worst = heap.peek();
+            if (tier != worst.tier()) {
+                return tier > worst.tier();
+            }
+            if (share != worst.share()) {
+                return share > worst.share();
+            }
+            int nameLength = searchableNames[slot].length();
+            if (nameLength != worst.nameLength()) {
+                return nameLength < worst.nameLength();
+            }
+            return ids[slot] < worst.id();
+        }
+
+        void offer(int slot, int tier, double share) {
+            if (!admits(slot, tier, share)) {
+                return;
+            }
+            if (heap.size() == limit) {
+                heap.poll();
+            }
+            heap.add(new Match(slot, tier, share, searchableNames[slot].length(), ids[slot]));
+        }
+
+        List<Match> ranked() {
+            List<Match> ranked = new ArrayList<>(heap);
+            ranked.sort(Match.ORDER.reversed());
+            return ranked;
+        }
+    }
+
+    /**
+     * Growable list of the slots sharing a gram, kept in rank order so lists can be merged and searched.
+     */
+    private final class Postings {
+
+        private int[] slots = new int[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Adds a slot at the end, for loading; the list must be sorted before it is read.
+         */
+        void append(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        void add(int slot) {
+            int at = search(slot);
+            if (at >= 0) {
+                return;
+            }
+            at = -at - 1;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, at, slots, at + 1, size - at);
+            slots[at] = slot;
+            size++;
+        }
+
+        boolean remove(int slot) {
+            int at = search(slot);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(slots, at + 1, slots, at, size - at - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(int slot) {
+            return search(slot) >= 0;
+        }
+
+        void sortBy(int[] positions) {
+            long[] ordered = new long[size];
+            for (int i = 0; i < size; i++) {
+                ordered[i] = (long) positions[slots[i]] << 32 | slots[i];
+            }
+            Arrays.sort(ordered);
+            for (int i = 0; i < size; i++) {
+                slots[i] = (int) ordered[i];
+            }
+        }
+
+        private int search(int slot) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = compareRank(slots[middle], slot);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
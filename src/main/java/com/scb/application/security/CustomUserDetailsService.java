@@ -1,17 +1,24 @@
 package com.scb.application.security;
 
-import com.scb.application.entity.Employee;
+import com.scb.application.constants.CacheNames;
+import com.scb.application.dto.projection.EmployeeCredentials;
+import com.scb.application.event.EmployeeChangedEvent;
 import com.scb.application.repository.EmployeeRepository;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.Collections;
-
+/**
+ * Loads users from a bounded, expiring cache of employee credentials ({@link CacheNames#USER_CREDENTIALS},
+ * sized by {@code spring.cache.caffeine.spec}), so repeated lookups of the same email skip the database.
+ * Hit and miss counts are published as {@code cache.gets} tagged {@code cache=userCredentials}.
+ * Users are returned as {@link EmployeePrincipal}s.
+ */
 @Service
 @Slf4j
 public class CustomUserDetailsService implements UserDetailsService {
@@ -25,13 +32,10 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         try {
-            Employee employee = employeeRepository.findByEmail(email)
+            EmployeeCredentials credentials = employeeRepository.findCredentialsByEmail(email)
                     .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-            return new User(
-                    employee.getEmail(),
-                    employee.getPassword(),
-                    Collections.singletonList(new SimpleGrantedAuthority(employee.getRole()))
-            );
+            // A new principal every time, since authentication erases the password of the one it is given
+            return EmployeePrincipal.of(credentials);
         } catch (UsernameNotFoundException e) {
             log.warn("CustomUserDetailsService: " + e.getMessage());
             throw e;
@@ -40,4 +44,10 @@ public class CustomUserDetailsService implements UserDetailsService {
             throw e;
         }
     }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @CacheEvict(cacheNames = CacheNames.USER_CREDENTIALS, key = "#event.before().email()", condition = "#event.changesCredentials() or #event.changesDepartment()")
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        // The eviction itself is done by the annotation once the change has committed
+    }
 }
@@ -0,0 +1,102 @@
+package com.scb.application.security;
+
+import com.scb.application.dto.projection.EmployeeCredentials;
+import com.scb.application.utils.VerifiedToken;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The authenticated employee, built from the credentials loaded at login or from the claims of a verified token.
+ * Carries the employee ID, role and department ID, so services can check who is calling without reading the employee.
+ * The department ID is the one at login: a transfer does not revoke tokens, so it may be stale until the employee
+ * logs in again, and it is null for tokens issued before it was added as a claim.
+ */
+@Getter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class EmployeePrincipal implements UserDetails, CredentialsContainer {
+
+    private final Long id;
+    @EqualsAndHashCode.Include
+    private final String email;
+    private String password;
+    private final String role;
+    private final Long departmentId;
+
+    public EmployeePrincipal(Long id, String email, String password, String role, Long departmentId) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.role = role;
+        this.departmentId = departmentId;
+    }
+
+    public static EmployeePrincipal of(EmployeeCredentials credentials) {
+        return new EmployeePrincipal(
+                credentials.id(), credentials.email(), credentials.password(), credentials.role(), credentials.departmentId());
+    }
+
+    public static EmployeePrincipal of(VerifiedToken token) {
+        return new EmployeePrincipal(token.employeeId(), token.subject(), "", token.role(), token.departmentId());
+    }
+
+    /**
+     * @return the employee of the current request, or null when it is not authenticated as one
+     */
+    public static EmployeePrincipal current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof EmployeePrincipal principal) {
+            return principal;
+        }
+        return null;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return role == null ? List.of() : AuthorityUtils.createAuthorityList(role);
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeePrincipal[id=" + id + ", email=" + email + ", role=" + role + ", departmentId=" + departmentId + "]";
+    }
+}
@@ -0,0 +1,55 @@
+package com.scb.application.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.scb.application.event.EmployeeChangedEvent;
+import com.scb.application.utils.VerifiedToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Revokes the tokens of employees whose email or role changed or who were deleted, so authorization can trust
+ * token claims without reading the employee on every request. Each subject maps to the time its tokens were
+ * revoked, and tokens issued up to that second are rejected. Entries are dropped once every token they could
+ * reject has expired anyway. The map lives in memory, so revocations do not survive a restart.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    private final Cache<String, Instant> revocations;
+
+    public TokenRevocationRegistry(@Value("${jwt.expiration}") long expirationTime) {
+        this.revocations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(expirationTime))
+                .build();
+    }
+
+    public void revoke(String subject) {
+        // Issue times only have second precision, so the whole second of the revocation is covered
+        revocations.put(subject, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        log.info("Revoked the tokens issued so far to {}", subject);
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        Instant revokedAt = revocations.getIfPresent(token.subject());
+        if (revokedAt == null) {
+            return false;
+        }
+        return token.issuedAt() == null || !token.issuedAt().isAfter(revokedAt);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.changesCredentials()) {
+            revoke(event.before().email());
+        }
+    }
+}
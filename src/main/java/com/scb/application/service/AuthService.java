@@ -3,8 +3,16 @@ package com.scb.application.service;
 import com.scb.application.dto.request.LoginRequest;
 import com.scb.application.dto.response.AuthResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 
 public interface AuthService {
 
-    AuthResponse login(LoginRequest loginRequest);
+    /**
+     * Authenticate on the login executor, off the request thread.
+     * @param loginRequest the email and password
+     * @return the token, or a future failed with the authentication error
+     * @throws com.scb.application.exception.ApiException with status 503 when the login executor is saturated
+     */
+    CompletableFuture<AuthResponse> login(LoginRequest loginRequest);
 }
\ No newline at end of file
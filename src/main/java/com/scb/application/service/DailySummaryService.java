@@ -3,17 +3,19 @@ package com.scb.application.service;
 import com.scb.application.entity.DailySummary;
 import com.scb.application.entity.Department;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 
 public interface DailySummaryService {
     
     /**
-     * Generate daily summary for all departments
+     * Generate daily summary for all departments, with headcount, payroll and new hires, in a single upsert statement
      * @param summaryDate the date for which to generate the summary
-     * @return list of generated summaries
+     * @return the number of department summaries written
      */
-    List<DailySummary> generateDailySummary(LocalDate summaryDate);
+    int generateDailySummary(LocalDate summaryDate);
     
     /**
      * Get all summaries for a specific date
@@ -29,4 +31,27 @@ public interface DailySummaryService {
      * @return the summary if found, otherwise null
      */
     DailySummary getSummaryByDateAndDepartment(LocalDate summaryDate, Department department);
+
+    /**
+     * Reject a summary range that cannot be served, before any output is written
+     * @param from the first date of the range
+     * @param to the last date of the range, no later than today
+     */
+    void checkSummaryRange(LocalDate from, LocalDate to);
+
+    /**
+     * Stream the summaries of a date range as JSON, with one time series per department
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @param departmentId the only department to include, or null for all of them
+     * @param outputStream the stream to write to, left open for the caller
+     * @return the number of summaries written
+     */
+    long writeSummaries(LocalDate from, LocalDate to, Long departmentId, OutputStream outputStream) throws IOException;
+
+    /**
+     * Get an ETag for summary ranges from the table versions, without loading the summaries
+     * @return a value that changes whenever any summary or department is written
+     */
+    String getSummariesETag();
 }
\ No newline at end of file
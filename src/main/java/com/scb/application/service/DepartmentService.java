@@ -11,6 +11,12 @@ public interface DepartmentService {
 
     List<DepartmentResponse> getAllDepartments();
 
+    /**
+     * Get an ETag for the department listing without loading the departments
+     * @return a value that changes whenever any department is created, updated or deleted
+     */
+    String getDepartmentsETag();
+
     DepartmentResponse getDepartmentById(Long id);
 
     DepartmentResponse updateDepartment(Long id, DepartmentRequest departmentRequest);
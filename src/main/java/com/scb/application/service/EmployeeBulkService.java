@@ -0,0 +1,49 @@
+package com.scb.application.service;
+
+import com.scb.application.dto.request.EmployeeBulkCreateRequest;
+import com.scb.application.dto.request.EmployeeBulkDeleteRequest;
+import com.scb.application.dto.request.EmployeeBulkUpdateRequest;
+import com.scb.application.dto.request.SalaryAdjustmentRequest;
+import com.scb.application.dto.response.EmployeeBulkCreateResponse;
+import com.scb.application.dto.response.EmployeeBulkOperationResponse;
+import com.scb.application.dto.response.SalaryAdjustmentResponse;
+
+public interface EmployeeBulkService {
+
+    /**
+     * Create many employees using batched inserts.
+     * The whole list is validated up front; inserts are then committed chunk by chunk.
+     * Chunks committed before a failing one stay committed: the response then lists their IDs and the
+     * error, and the requests from index {@code created} on were not created.
+     * A failure in the first chunk creates nothing and is thrown as is.
+     * @param bulkCreateRequest the employees to create
+     * @return the IDs of the created employees, in request order
+     */
+    EmployeeBulkCreateResponse createEmployees(EmployeeBulkCreateRequest bulkCreateRequest);
+
+    /**
+     * Partially update many employees in one transaction.
+     * Employees receiving the same changes are updated by a single statement; rows that are missing,
+     * would break email uniqueness or point to an unknown department are skipped and reported.
+     * @param bulkUpdateRequest the changes per employee
+     * @return one outcome per employee, in request order
+     */
+    EmployeeBulkOperationResponse updateEmployees(EmployeeBulkUpdateRequest bulkUpdateRequest);
+
+    /**
+     * Delete many employees in one transaction with a single statement per chunk of IDs.
+     * Missing employees and the caller's own account are skipped and reported.
+     * @param bulkDeleteRequest the employee IDs
+     * @return one outcome per distinct ID, in request order
+     */
+    EmployeeBulkOperationResponse deleteEmployees(EmployeeBulkDeleteRequest bulkDeleteRequest);
+
+    /**
+     * Change the salary of every employee matching the criteria with set-based updates in one transaction.
+     * The matched employees are updated in windows of a fixed number of employees, walked by ID,
+     * so no single statement touches the whole table.
+     * @param salaryAdjustmentRequest the criteria, the change and whether to only preview it
+     * @return the number of affected employees and their salary figures before and after
+     */
+    SalaryAdjustmentResponse adjustSalaries(SalaryAdjustmentRequest salaryAdjustmentRequest);
+}
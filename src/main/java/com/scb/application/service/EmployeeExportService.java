@@ -0,0 +1,17 @@
+package com.scb.application.service;
+
+import com.scb.application.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface EmployeeExportService {
+
+    /**
+     * Stream every employee to the given output, one row at a time
+     * @param format the output format
+     * @param outputStream the stream to write to, left open for the caller
+     * @return the number of exported employees
+     */
+    long exportEmployees(ExportFormat format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,30 @@
+package com.scb.application.service;
+
+import com.scb.application.dto.response.EmployeeImportJobResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface EmployeeImportService {
+
+    /**
+     * Start importing employees from a CSV upload in the background.
+     * The file needs a header row with the columns name, email, salary, hireDate and departmentId.
+     * @param file the uploaded CSV file
+     * @return the queued job
+     */
+    EmployeeImportJobResponse startImport(MultipartFile file);
+
+    /**
+     * Get the progress of an import job
+     * @param jobId the job ID
+     * @return the job progress
+     */
+    EmployeeImportJobResponse getImportJob(String jobId);
+
+    /**
+     * Get the CSV of rows the job rejected so far, with their line numbers and reasons
+     * @param jobId the job ID
+     * @return the error file
+     */
+    Resource getImportErrors(String jobId);
+}
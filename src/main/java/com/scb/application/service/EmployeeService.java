@@ -1,7 +1,13 @@
 package com.scb.application.service;
 
+import com.scb.application.dto.request.EmployeeBatchGetRequest;
 import com.scb.application.dto.request.EmployeeRequest;
+import com.scb.application.dto.request.EmployeeSearchRequest;
+import com.scb.application.dto.response.CursorPageResponse;
+import com.scb.application.dto.response.EmployeeBatchGetResponse;
 import com.scb.application.dto.response.EmployeeResponse;
+import com.scb.application.dto.response.EmployeeSuggestionResponse;
+import com.scb.application.dto.response.PageResponse;
 
 import java.util.List;
 
@@ -9,10 +15,45 @@ public interface EmployeeService {
 
     EmployeeResponse createEmployee(EmployeeRequest employeeRequest);
 
-    List<EmployeeResponse> getAllEmployees();
+    /**
+     * Get one keyset page of employees ordered by ID
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of employees to return, or null for the default
+     * @param departmentId restricts the listing to one department when not null
+     * @return the page with the cursor of the next one
+     */
+    CursorPageResponse<EmployeeResponse> getEmployees(String cursor, Integer limit, Long departmentId);
+
+    /**
+     * Get an ETag for employee listings from the table versions, without loading the employees
+     * @return a value that changes whenever any employee or department is created, updated or deleted
+     */
+    String getEmployeesETag();
+
+    /**
+     * Search employees by department, salary range, hire-date range and role
+     * @param searchRequest the filters, page and sort order
+     * @return the requested page of matching employees
+     */
+    PageResponse<EmployeeResponse> searchEmployees(EmployeeSearchRequest searchRequest);
+
+    /**
+     * Type-ahead lookup of employees by name or email, served from the in-memory suggestion index
+     * @param query the fragment typed so far
+     * @param limit the maximum number of suggestions, or null for the default
+     * @return the best matches first
+     */
+    List<EmployeeSuggestionResponse> suggestEmployees(String query, Integer limit);
 
     EmployeeResponse getEmployeeById(Long id);
 
+    /**
+     * Resolve many employees at once
+     * @param batchGetRequest the employee IDs; duplicates are returned once
+     * @return the employees in request order and the IDs that were not found
+     */
+    EmployeeBatchGetResponse getEmployeesByIds(EmployeeBatchGetRequest batchGetRequest);
+
     EmployeeResponse updateEmployee(Long id, EmployeeRequest employeeRequest);
 
     void deleteEmployee(Long id);
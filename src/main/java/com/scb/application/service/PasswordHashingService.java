@@ -0,0 +1,19 @@
+package com.scb.application.service;
+
+import java.util.List;
+
+public interface PasswordHashingService {
+
+    /**
+     * Hash the default password of new employees on the hashing executor
+     * @return a freshly salted hash
+     */
+    String encodeDefaultPassword();
+
+    /**
+     * Hash the default password several times in parallel, one salt per employee
+     * @param count the number of hashes
+     * @return the hashes
+     */
+    List<String> encodeDefaultPasswords(int count);
+}
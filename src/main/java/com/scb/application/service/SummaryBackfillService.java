@@ -0,0 +1,17 @@
+package com.scb.application.service;
+
+import com.scb.application.dto.response.SummaryBackfillResponse;
+
+import java.time.LocalDate;
+
+public interface SummaryBackfillService {
+
+    /**
+     * Rebuild the daily summaries of every department for a past date range from the employees' hire dates.
+     * Existing summaries in the range are overwritten.
+     * @param from the first date to rebuild
+     * @param to the last date to rebuild, no later than today
+     * @return the rebuilt range and the number of summaries written
+     */
+    SummaryBackfillResponse backfillSummaries(LocalDate from, LocalDate to);
+}
@@ -1,33 +1,89 @@
 package com.scb.application.service.impl;
 
+import com.scb.application.config.LoginConfig;
 import com.scb.application.dto.request.LoginRequest;
 import com.scb.application.dto.response.AuthResponse;
-import com.scb.application.entity.Employee;
 import com.scb.application.exception.ApiException;
 import com.scb.application.exception.ErrorCode;
-import com.scb.application.repository.EmployeeRepository;
+import com.scb.application.security.EmployeePrincipal;
 import com.scb.application.utils.JwtService;
 import com.scb.application.service.AuthService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authenticates logins on the dedicated login executor, so BCrypt checks use a fixed share of the CPU and
+ * never hold a request thread. The wait for a login thread is timed as {@code login.queue} and the
+ * authentication itself as {@code login.service}; logins turned away because the executor is saturated
+ * are counted as {@code login.rejected}.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
-    private final EmployeeRepository employeeRepository;
+    private final Executor loginExecutor;
+    private final Timer queueTimer;
+    private final Timer serviceTimer;
+    private final Counter rejectedCounter;
+    private final long retryAfterSeconds;
+
+    public AuthServiceImpl(AuthenticationManager authenticationManager,
+                           JwtService jwtService,
+                           @Qualifier(LoginConfig.LOGIN_EXECUTOR) Executor loginExecutor,
+                           MeterRegistry meterRegistry,
+                           @Value("${security.login.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.authenticationManager = authenticationManager;
+        this.jwtService = jwtService;
+        this.loginExecutor = loginExecutor;
+        this.queueTimer = Timer.builder("login.queue")
+                .description("Time a login waited for a login thread")
+                .register(meterRegistry);
+        this.serviceTimer = Timer.builder("login.service")
+                .description("Time spent authenticating a login")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("login.rejected")
+                .description("Logins rejected because the login executor was saturated")
+                .register(meterRegistry);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
 
     @Override
-    public AuthResponse login(LoginRequest loginRequest) {
+    public CompletableFuture<AuthResponse> login(LoginRequest loginRequest) {
+        long submitted = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return serviceTimer.record(() -> authenticate(loginRequest));
+            }, loginExecutor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.error("Login for user {} rejected, too many logins in progress", loginRequest.getEmail());
+            throw new ApiException(
+                    "Too many logins are in progress, please retry later",
+                    ErrorCode.SERVICE_UNAVAILABLE,
+                    HttpStatus.SERVICE_UNAVAILABLE.value(),
+                    retryAfterSeconds
+            );
+        }
+    }
+
+    private AuthResponse authenticate(LoginRequest loginRequest) {
             log.info("Login attempt for user with email: {}", loginRequest.getEmail());
 
             Authentication authentication = authenticationManager.authenticate(
@@ -36,18 +92,11 @@ public class AuthServiceImpl implements AuthService {
             if (authentication.isAuthenticated()) {
                 log.info("Authentication successful for user: {}", loginRequest.getEmail());
 
-                Employee employee = employeeRepository.findByEmail(loginRequest.getEmail())
-                        .orElseThrow(() -> new ApiException("User not found with email: " + loginRequest.getEmail(), ErrorCode.RESOURCE_NOT_FOUND, HttpStatus.NOT_FOUND.value()));
+                // The principal loaded by the authentication provider, so the employee is not read again
+                EmployeePrincipal employee = (EmployeePrincipal) authentication.getPrincipal();
 
                 log.info("Generating JWT token for user: {}", employee.getEmail());
-                String token = jwtService.generateToken(
-                        User.builder()
-                                .username(employee.getEmail())
-                                .password(employee.getPassword())
-                                .authorities(employee.getRole())
-                                .build(),
-                        employee.getRole()
-                );
+                String token = jwtService.generateToken(employee);
                 log.info("JWT token generated successfully for user: {}", employee.getEmail());
 
                 AuthResponse response = AuthResponse.builder()
@@ -1,66 +1,49 @@
 package com.scb.application.service.impl;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.scb.application.dto.projection.DailySummaryPoint;
 import com.scb.application.entity.DailySummary;
 import com.scb.application.entity.Department;
+import com.scb.application.exception.ApiException;
+import com.scb.application.exception.ErrorCode;
 import com.scb.application.repository.DailySummaryRepository;
 import com.scb.application.repository.DepartmentRepository;
-import com.scb.application.repository.EmployeeRepository;
 import com.scb.application.service.DailySummaryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DailySummaryServiceImpl implements DailySummaryService {
 
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private final DailySummaryRepository dailySummaryRepository;
     private final DepartmentRepository departmentRepository;
-    private final EmployeeRepository employeeRepository;
 
     @Override
     @Transactional
-    public List<DailySummary> generateDailySummary(LocalDate summaryDate) {
+    public int generateDailySummary(LocalDate summaryDate) {
         log.info("Generating daily summary for date: {}", summaryDate);
-        
-        List<Department> departments = departmentRepository.findAll();
-        
-        Map<Long, Long> employeeCountsByDepartmentId = employeeRepository.countEmployeesByDepartment()
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> (Long) arr[1]
-                ));
-        
-        List<DailySummary> summaries = new ArrayList<>();
-        
-        for (Department department : departments) {
-            int employeeCount = employeeCountsByDepartmentId.getOrDefault(department.getId(), 0L).intValue();
-            
-            Optional<DailySummary> existingSummary = dailySummaryRepository.findBySummaryDateAndDepartment(summaryDate, department);
-            
-            DailySummary summary;
-            if (existingSummary.isPresent()) {
-                summary = existingSummary.get();
-                summary.setEmployeeCount(employeeCount);
-            } else {
-                summary = new DailySummary(summaryDate, department, employeeCount);
-            }
-            summary = dailySummaryRepository.save(summary);
-            summaries.add(summary);
-            
-            log.info("Generated summary for department {}: {} employees", department.getName(), employeeCount);
-        }
-        
+
+        int summaries = dailySummaryRepository.upsertSummaries(summaryDate);
+
+        log.info("Generated {} department summaries for {}", summaries, summaryDate);
         return summaries;
     }
 
@@ -73,4 +56,86 @@ public class DailySummaryServiceImpl implements DailySummaryService {
     public DailySummary getSummaryByDateAndDepartment(LocalDate summaryDate, Department department) {
         return dailySummaryRepository.findBySummaryDateAndDepartment(summaryDate, department).orElse(null);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void checkSummaryRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            log.error("Summary range starts on {} after it ends on {}", from, to);
+            throw new ApiException("The summary range must not start after it ends",
+                    ErrorCode.INVALID_INPUT, HttpStatus.BAD_REQUEST.value());
+        }
+        if (to.isAfter(LocalDate.now())) {
+            log.error("Summary range ends in the future on {}", to);
+            throw new ApiException("Summaries cannot be requested for future dates",
+                    ErrorCode.INVALID_INPUT, HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long writeSummaries(LocalDate from, LocalDate to, Long departmentId, OutputStream outputStream) throws IOException {
+        log.info("Streaming daily summaries from {} to {} for department {}", from, to, departmentId);
+        JsonGenerator generator = JSON_FACTORY.createGenerator(new BufferedOutputStream(outputStream, WRITE_BUFFER_SIZE));
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        generator.writeStartObject();
+        generator.writeStringField("from", from.toString());
+        generator.writeStringField("to", to.toString());
+        generator.writeArrayFieldStart("series");
+        long count = 0;
+        try (Stream<DailySummaryPoint> points = dailySummaryRepository.streamRange(from, to, departmentId)) {
+            // Rows arrive grouped by department, so each series is closed as soon as the next one starts
+            Long currentDepartmentId = null;
+            Iterator<DailySummaryPoint> iterator = points.iterator();
+            while (iterator.hasNext()) {
+                DailySummaryPoint point = iterator.next();
+                if (!Objects.equals(point.departmentId(), currentDepartmentId)) {
+                    if (currentDepartmentId != null) {
+                        generator.writeEndArray();
+                        generator.writeEndObject();
+                    }
+                    currentDepartmentId = point.departmentId();
+                    generator.writeStartObject();
+                    generator.writeNumberField("departmentId", point.departmentId());
+                    generator.writeStringField("departmentName", point.departmentName());
+                    generator.writeArrayFieldStart("points");
+                }
+                generator.writeStartObject();
+                generator.writeStringField("date", point.summaryDate().toString());
+                generator.writeNumberField("employeeCount", point.employeeCount());
+                generator.writeNumberField("newHires", point.newHires());
+                writeNumberField(generator, "totalSalary", point.totalSalary());
+                writeNumberField(generator, "averageSalary", point.averageSalary());
+                writeNumberField(generator, "minSalary", point.minSalary());
+                writeNumberField(generator, "maxSalary", point.maxSalary());
+                generator.writeEndObject();
+                count++;
+            }
+            if (currentDepartmentId != null) {
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
+
+        log.info("Streamed {} daily summaries from {} to {}", count, from, to);
+        return count;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getSummariesETag() {
+        // Summaries carry department names, so department changes must change the tag too
+        return dailySummaryRepository.findTableVersion().toETag() + "-" + departmentRepository.findTableVersion().toETag();
+    }
+
+    private static void writeNumberField(JsonGenerator generator, String name, Double value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
+}
@@ -1,16 +1,22 @@
 package com.scb.application.service.impl;
 
+import com.scb.application.annotation.SingleFlight;
+import com.scb.application.constants.CacheNames;
 import com.scb.application.dto.request.DepartmentRequest;
 import com.scb.application.dto.response.DepartmentResponse;
 import com.scb.application.entity.Department;
 import com.scb.application.exception.ApiException;
 import com.scb.application.exception.ErrorCode;
+import com.scb.application.headcount.DepartmentHeadcountRegistry;
 import com.scb.application.mapper.DepartmentMapper;
 import com.scb.application.repository.DepartmentRepository;
-import com.scb.application.repository.EmployeeRepository;
 import com.scb.application.service.DepartmentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,7 +30,7 @@ import java.util.stream.Collectors;
 public class DepartmentServiceImpl implements DepartmentService {
 
     private final DepartmentRepository departmentRepository;
-    private final EmployeeRepository employeeRepository;
+    private final DepartmentHeadcountRegistry headcountRegistry;
     private final DepartmentMapper departmentMapper;
 
     @Override
@@ -62,6 +68,14 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     @Transactional(readOnly = true)
+    public String getDepartmentsETag() {
+        return departmentRepository.findTableVersion().toETag();
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheNames.DEPARTMENTS, key = "#id")
+    @SingleFlight
+    @Transactional(readOnly = true)
     public DepartmentResponse getDepartmentById(Long id) {
         log.info("Fetching department with ID: {}", id);
         Department department = departmentRepository.findById(id)
@@ -77,7 +91,13 @@ public class DepartmentServiceImpl implements DepartmentService {
         return departmentMapper.toResponseDto(department);
     }
 
+    // Cached employee responses carry the department name, so a rename invalidates all of them
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.DEPARTMENTS, key = "#id"),
+            @CacheEvict(cacheNames = CacheNames.DEPARTMENT_ENTITIES, key = "#id"),
+            @CacheEvict(cacheNames = CacheNames.EMPLOYEES, allEntries = true)
+    })
     @Transactional
     public DepartmentResponse updateDepartment(Long id, DepartmentRequest departmentRequest) {
         log.info("Updating department with ID: {}", id);
@@ -111,6 +131,10 @@ public class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.DEPARTMENTS, key = "#id"),
+            @CacheEvict(cacheNames = CacheNames.DEPARTMENT_ENTITIES, key = "#id")
+    })
     @Transactional
     public void deleteDepartment(Long id) {
         log.info("Deleting department with ID: {}", id);
@@ -125,16 +149,27 @@ public class DepartmentServiceImpl implements DepartmentService {
                     );
                 });
 
-        if (employeeRepository.countByDepartment(department) > 0) {
+        if (headcountRegistry.reconcile(department) > 0) {
             log.error("Cannot delete department with ID {} because it has employees assigned to it", id);
-            throw new ApiException(
-                    "Cannot delete department because it has employees assigned to it",
-                    ErrorCode.VALIDATION_ERROR,
-                    HttpStatus.BAD_REQUEST.value()
-            );
+            throw departmentNotEmpty();
         }
 
-        departmentRepository.deleteById(id);
+        try {
+            departmentRepository.deleteById(id);
+            // The headcount can lag a concurrent hire; the foreign key still rejects the delete then
+            departmentRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            log.error("Cannot delete department with ID {} because employees were assigned to it meanwhile", id);
+            throw departmentNotEmpty();
+        }
         log.info("Department with ID: {} deleted successfully", id);
     }
+
+    private ApiException departmentNotEmpty() {
+        return new ApiException(
+                "Cannot delete department because it has employees assigned to it",
+                ErrorCode.VALIDATION_ERROR,
+                HttpStatus.BAD_REQUEST.value()
+        );
+    }
 }
@@ -0,0 +1,43 @@
+package com.scb.application.service.impl;
+
+import com.scb.application.entity.Employee;
+import com.scb.application.event.EmployeeChangedEvent;
+import com.scb.application.event.EmployeeSnapshot;
+import com.scb.application.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Inserts prepared employees in fixed-size transactions for the bulk create and import paths.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeBatchWriter {
+
+    private final EmployeeRepository employeeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Persists the employees in one transaction and assigns their IDs.
+     * The IDs come from the pooled sequence, so the flush sends the inserts as JDBC batches;
+     * clearing afterwards keeps the persistence context from growing with every chunk.
+     */
+    public void insert(List<Employee> employees) {
+        transactionTemplate.executeWithoutResult(status -> {
+            employeeRepository.saveAll(employees);
+            entityManager.flush();
+            entityManager.clear();
+            employees.forEach(employee -> eventPublisher.publishEvent(EmployeeChangedEvent.created(EmployeeSnapshot.of(employee))));
+        });
+    }
+}
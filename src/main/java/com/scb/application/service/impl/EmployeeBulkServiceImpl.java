@@ -0,0 +1,458 @@
+package com.scb.application.service.impl;
+
+import com.scb.application.constants.CacheNames;
+import com.scb.application.constants.PaginationConstants;
+import com.scb.application.dto.projection.SalaryAdjustmentAggregate;
+import com.scb.application.dto.request.EmployeeBulkCreateRequest;
+import com.scb.application.dto.request.EmployeeBulkDeleteRequest;
+import com.scb.application.dto.request.EmployeeBulkUpdateRequest;
+import com.scb.application.dto.request.EmployeePatchRequest;
+import com.scb.application.dto.request.EmployeeRequest;
+import com.scb.application.dto.request.SalaryAdjustmentRequest;
+import com.scb.application.dto.response.EmployeeBulkCreateResponse;
+import com.scb.application.dto.response.EmployeeBulkOperationResponse;
+import com.scb.application.dto.response.EmployeeBulkOutcome;
+import com.scb.application.dto.response.SalaryAdjustmentResponse;
+import com.scb.application.dto.response.SalaryStatistics;
+import com.scb.application.entity.Department;
+import com.scb.application.entity.Employee;
+import com.scb.application.enums.BulkOutcomeStatus;
+import com.scb.application.enums.SalaryAdjustmentType;
+import com.scb.application.event.EmployeeChangedEvent;
+import com.scb.application.event.EmployeeSnapshot;
+import com.scb.application.exception.ApiException;
+import com.scb.application.exception.ErrorCode;
+import com.scb.application.mapper.EmployeeMapper;
+import com.scb.application.repository.DepartmentRepository;
+import com.scb.application.repository.EmployeeChanges;
+import com.scb.application.repository.EmployeeRepository;
+import com.scb.application.repository.SalaryChange;
+import com.scb.application.repository.specification.EmployeeSpecifications;
+import com.scb.application.security.EmployeePrincipal;
+import com.scb.application.service.EmployeeBulkService;
+import com.scb.application.service.PasswordHashingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmployeeBulkServiceImpl implements EmployeeBulkService {
+
+    // Error messages list at most this many offending values
+    private static final int MAX_REPORTED_VALUES = 10;
+
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final EmployeeMapper employeeMapper;
+    private final PasswordHashingService passwordHashingService;
+    private final EmployeeBatchWriter employeeBatchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${employee.bulk.max-size}")
+    private int maxSize;
+
+    @Value("${employee.bulk.chunk-size}")
+    private int chunkSize;
+
+    @Value("${employee.salary-adjustment.window-size}")
+    private int adjustmentWindowSize;
+
+    @Override
+    public EmployeeBulkCreateResponse createEmployees(EmployeeBulkCreateRequest bulkCreateRequest) {
+        List<EmployeeRequest> employeeRequests = bulkCreateRequest.getEmployees();
+        log.info("Bulk creating {} employees", employeeRequests.size());
+
+        checkSize(employeeRequests.size(), "created");
+        validateEmails(employeeRequests);
+        Map<Long, Department> departments = findDepartments(employeeRequests);
+
+        List<Long> ids = new ArrayList<>(employeeRequests.size());
+        for (int from = 0; from < employeeRequests.size(); from += chunkSize) {
+            List<EmployeeRequest> chunk = employeeRequests.subList(from, Math.min(from + chunkSize, employeeRequests.size()));
+            // Hash in parallel before opening the transaction, so no connection is held meanwhile
+            List<String> passwords = passwordHashingService.encodeDefaultPasswords(chunk.size());
+            List<Employee> employees = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                EmployeeRequest request = chunk.get(i);
+                employees.add(employeeMapper.toEntity(request, departments.get(request.getDepartmentId()), passwords.get(i)));
+            }
+            try {
+                employeeBatchWriter.insert(employees);
+            } catch (RuntimeException e) {
+                if (ids.isEmpty()) {
+                    throw e;
+                }
+                // Earlier chunks are committed, so report them rather than hiding them behind the error
+                log.error("Bulk create stopped after {} of {} employees", ids.size(), employeeRequests.size(), e);
+                return EmployeeBulkCreateResponse.builder()
+                        .created(ids.size())
+                        .ids(ids)
+                        .failed(employeeRequests.size() - ids.size())
+                        .error(e instanceof ApiException ? e.getMessage() : "Inserting the remaining employees failed")
+                        .build();
+            }
+            employees.forEach(employee -> ids.add(employee.getId()));
+            log.info("Inserted {} of {} employees", ids.size(), employeeRequests.size());
+        }
+
+        return EmployeeBulkCreateResponse.builder()
+                .created(ids.size())
+                .ids(ids)
+                .build();
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheNames.EMPLOYEES, allEntries = true)
+    @Transactional
+    public EmployeeBulkOperationResponse updateEmployees(EmployeeBulkUpdateRequest bulkUpdateRequest) {
+        List<EmployeePatchRequest> patches = bulkUpdateRequest.getEmployees();
+        log.info("Bulk updating {} employees", patches.size());
+        checkSize(patches.size(), "updated");
+
+        Set<Long> ids = new LinkedHashSet<>();
+        Set<Long> duplicates = new LinkedHashSet<>();
+        for (EmployeePatchRequest patch : patches) {
+            if (!ids.add(patch.getId())) {
+                duplicates.add(patch.getId());
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            log.error("Bulk update contains duplicate employee IDs: {}", duplicates);
+            throw new ApiException(
+                    "Employee IDs appear more than once in the request: " + describe(duplicates),
+                    ErrorCode.VALIDATION_ERROR,
+                    HttpStatus.BAD_REQUEST.value()
+            );
+        }
+
+        Map<Long, EmployeeSnapshot> employees = findSnapshots(ids);
+        Set<Long> departmentIds = findExistingDepartmentIds(patches);
+        Map<String, Long> emailOwners = findEmailOwners(patches);
+
+        Map<Long, EmployeeBulkOutcome> outcomes = new LinkedHashMap<>();
+        Map<EmployeeChanges, List<Long>> groups = new LinkedHashMap<>();
+        Set<String> claimedEmails = new HashSet<>();
+        for (EmployeePatchRequest patch : patches) {
+            EmployeeSnapshot employee = employees.get(patch.getId());
+            if (employee == null) {
+                outcomes.put(patch.getId(), outcome(patch.getId(), BulkOutcomeStatus.NOT_FOUND, "Employee not found"));
+                continue;
+            }
+            String email = employee.email().equals(patch.getEmail()) ? null : patch.getEmail();
+            if (email != null) {
+                Long owner = emailOwners.get(email);
+                if ((owner != null && !owner.equals(patch.getId())) || !claimedEmails.add(email)) {
+                    outcomes.put(patch.getId(), outcome(patch.getId(), BulkOutcomeStatus.CONFLICT, "Employee with email " + email + " already exists"));
+                    continue;
+                }
+            }
+            if (patch.getDepartmentId() != null && !departmentIds.contains(patch.getDepartmentId())) {
+                outcomes.put(patch.getId(), outcome(patch.getId(), BulkOutcomeStatus.REJECTED, "Department with ID " + patch.getDepartmentId() + " not found"));
+                continue;
+            }
+            Date hireDate;
+            try {
+                hireDate = patch.getHireDate() == null ? null : employeeMapper.parseHireDate(patch.getHireDate());
+            } catch (ApiException e) {
+                outcomes.put(patch.getId(), outcome(patch.getId(), BulkOutcomeStatus.REJECTED, e.getMessage()));
+                continue;
+            }
+            EmployeeChanges changes = new EmployeeChanges(patch.getName(), email, patch.getSalary(), hireDate, patch.getDepartmentId());
+            if (changes.isEmpty()) {
+                outcomes.put(patch.getId(), outcome(patch.getId(), BulkOutcomeStatus.REJECTED, "No changes requested"));
+                continue;
+            }
+            groups.computeIfAbsent(changes, key -> new ArrayList<>()).add(patch.getId());
+            outcomes.put(patch.getId(), outcome(patch.getId(), BulkOutcomeStatus.UPDATED, null));
+        }
+
+        // One statement per distinct change set, however many employees receive it
+        groups.forEach((changes, groupIds) -> {
+            forEachChunk(groupIds, chunk -> employeeRepository.updateAll(chunk, changes));
+            groupIds.forEach(id -> {
+                EmployeeSnapshot before = employees.get(id);
+                eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, apply(before, changes)));
+            });
+        });
+        log.info("Bulk updated {} of {} employees in {} statements", groups.values().stream().mapToInt(List::size).sum(), patches.size(), groups.size());
+        return toResponse(outcomes.values(), BulkOutcomeStatus.UPDATED);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheNames.EMPLOYEES, allEntries = true)
+    @Transactional
+    public EmployeeBulkOperationResponse deleteEmployees(EmployeeBulkDeleteRequest bulkDeleteRequest) {
+        Set<Long> ids = new LinkedHashSet<>(bulkDeleteRequest.getIds());
+        log.info("Bulk deleting {} employees", ids.size());
+        checkSize(ids.size(), "deleted");
+
+        Map<Long, EmployeeSnapshot> employees = findSnapshots(ids);
+        Long currentEmployeeId = currentEmployeeId();
+
+        List<EmployeeBulkOutcome> outcomes = new ArrayList<>(ids.size());
+        List<Long> deletable = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            EmployeeSnapshot employee = employees.get(id);
+            if (employee == null) {
+                outcomes.add(outcome(id, BulkOutcomeStatus.NOT_FOUND, "Employee not found"));
+            } else if (employee.id().equals(currentEmployeeId)) {
+                log.error("Cannot delete your own account");
+                outcomes.add(outcome(id, BulkOutcomeStatus.REJECTED, "You cannot delete your own account"));
+            } else {
+                deletable.add(id);
+                outcomes.add(outcome(id, BulkOutcomeStatus.DELETED, null));
+            }
+        }
+
+        forEachChunk(deletable, employeeRepository::deleteAllByIdInBatch);
+        deletable.forEach(id -> eventPublisher.publishEvent(EmployeeChangedEvent.deleted(employees.get(id))));
+        log.info("Bulk deleted {} of {} employees", deletable.size(), ids.size());
+        return toResponse(outcomes, BulkOutcomeStatus.DELETED);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheNames.EMPLOYEES, allEntries = true, condition = "!#salaryAdjustmentRequest.dryRun")
+    @Transactional
+    public SalaryAdjustmentResponse adjustSalaries(SalaryAdjustmentRequest salaryAdjustmentRequest) {
+        log.info("Adjusting salaries: {}", salaryAdjustmentRequest);
+        validateSalaryAdjustment(salaryAdjustmentRequest);
+
+        Specification<Employee> specification = Specification
+                .where(EmployeeSpecifications.inDepartment(salaryAdjustmentRequest.getDepartmentId()))
+                .and(EmployeeSpecifications.hiredOnOrAfter(salaryAdjustmentRequest.getHiredFrom()))
+                .and(EmployeeSpecifications.hiredOnOrBefore(salaryAdjustmentRequest.getHiredTo()))
+                .and(EmployeeSpecifications.salaryAtLeast(salaryAdjustmentRequest.getMinSalary()))
+                .and(EmployeeSpecifications.salaryAtMost(salaryAdjustmentRequest.getMaxSalary()));
+        SalaryChange change = new SalaryChange(salaryAdjustmentRequest.getType(), salaryAdjustmentRequest.getValue());
+
+        SalaryAdjustmentAggregate aggregate = employeeRepository.aggregateSalaryAdjustment(specification, change);
+        if (aggregate.minAfter() != null && aggregate.minAfter() <= 0) {
+            log.error("Salary adjustment would lower the minimum salary to {}", aggregate.minAfter());
+            throw new ApiException(
+                    "The adjustment would reduce salaries to zero or below",
+                    ErrorCode.VALIDATION_ERROR,
+                    HttpStatus.BAD_REQUEST.value()
+            );
+        }
+
+        long affected = aggregate.count();
+        if (!salaryAdjustmentRequest.isDryRun() && affected > 0) {
+            affected = 0;
+            // Each window ends at the window-size-th matched ID, so sparse IDs never cost empty updates
+            for (long afterId = aggregate.minId() - 1; afterId < aggregate.maxId(); ) {
+                Long windowEnd = employeeRepository.findSalaryAdjustmentWindowEnd(specification, afterId, adjustmentWindowSize);
+                long toId = windowEnd == null ? aggregate.maxId() : Math.min(windowEnd, aggregate.maxId());
+                affected += employeeRepository.adjustSalaries(specification, change, afterId + 1, toId);
+                afterId = toId;
+            }
+        }
+        log.info("Salary adjustment {} {} employees", salaryAdjustmentRequest.isDryRun() ? "would affect" : "affected", affected);
+
+        return SalaryAdjustmentResponse.builder()
+                .dryRun(salaryAdjustmentRequest.isDryRun())
+                .affected(affected)
+                .before(toStatistics(aggregate.count(), aggregate.totalBefore(), aggregate.minBefore(), aggregate.maxBefore()))
+                .after(toStatistics(aggregate.count(), aggregate.totalAfter(), aggregate.minAfter(), aggregate.maxAfter()))
+                .build();
+    }
+
+    private void validateSalaryAdjustment(SalaryAdjustmentRequest request) {
+        String error = null;
+        if (request.getDepartmentId() == null && request.getHiredFrom() == null && request.getHiredTo() == null
+                && request.getMinSalary() == null && request.getMaxSalary() == null) {
+            error = "At least one criterion is required";
+        } else if (request.getMinSalary() != null && request.getMaxSalary() != null
+                && request.getMinSalary() > request.getMaxSalary()) {
+            error = "Minimum salary cannot be greater than maximum salary";
+        } else if (request.getHiredFrom() != null && request.getHiredTo() != null
+                && request.getHiredFrom().isAfter(request.getHiredTo())) {
+            error = "Hired-from date cannot be after hired-to date";
+        } else if (request.getType() == SalaryAdjustmentType.PERCENTAGE
+                && request.getValue().compareTo(BigDecimal.valueOf(-100)) <= 0) {
+            error = "Percentage must be greater than -100";
+        }
+        if (error != null) {
+            log.error("Invalid salary adjustment: {}", error);
+            throw new ApiException(error, ErrorCode.INVALID_INPUT, HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    private static SalaryStatistics toStatistics(long count, Double total, Double min, Double max) {
+        double sum = total == null ? 0 : total;
+        return SalaryStatistics.builder()
+                .total(roundToCents(sum))
+                .average(count == 0 ? 0 : roundToCents(sum / count))
+                .min(min)
+                .max(max)
+                .build();
+    }
+
+    private static double roundToCents(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private void checkSize(int size, String operation) {
+        if (size > maxSize) {
+            log.error("Bulk operation on {} employees exceeds the limit of {}", size, maxSize);
+            throw new ApiException(
+                    "At most " + maxSize + " employees can be " + operation + " at once",
+                    ErrorCode.INVALID_INPUT,
+                    HttpStatus.BAD_REQUEST.value()
+            );
+        }
+    }
+
+    private Map<Long, EmployeeSnapshot> findSnapshots(Collection<Long> ids) {
+        Map<Long, EmployeeSnapshot> snapshots = new HashMap<>();
+        forEachChunk(new ArrayList<>(ids), chunk ->
+                employeeRepository.findSnapshotsByIdIn(chunk).forEach(snapshot -> snapshots.put(snapshot.id(), snapshot)));
+        return snapshots;
+    }
+
+    private Set<Long> findExistingDepartmentIds(List<EmployeePatchRequest> patches) {
+        Set<Long> departmentIds = patches.stream()
+                .map(EmployeePatchRequest::getDepartmentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (departmentIds.isEmpty()) {
+            return Set.of();
+        }
+        return departmentRepository.findAllById(departmentIds).stream()
+                .map(Department::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private Map<String, Long> findEmailOwners(List<EmployeePatchRequest> patches) {
+        List<String> emails = patches.stream()
+                .map(EmployeePatchRequest::getEmail)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<String, Long> owners = new HashMap<>();
+        forEachChunk(emails, chunk -> employeeRepository.findContactsByEmailIn(chunk)
+                .forEach(contact -> owners.put(contact.email(), contact.id())));
+        return owners;
+    }
+
+    private static <T> void forEachChunk(List<T> values, Consumer<List<T>> action) {
+        for (int from = 0; from < values.size(); from += PaginationConstants.IN_CLAUSE_CHUNK_SIZE) {
+            action.accept(values.subList(from, Math.min(from + PaginationConstants.IN_CLAUSE_CHUNK_SIZE, values.size())));
+        }
+    }
+
+    private static EmployeeSnapshot apply(EmployeeSnapshot before, EmployeeChanges changes) {
+        return new EmployeeSnapshot(
+                before.id(),
+                changes.name() != null ? changes.name() : before.name(),
+                changes.email() != null ? changes.email() : before.email(),
+                before.role(),
+                changes.departmentId() != null ? changes.departmentId() : before.departmentId()
+        );
+    }
+
+    private static Long currentEmployeeId() {
+        EmployeePrincipal principal = EmployeePrincipal.current();
+        return principal != null ? principal.getId() : null;
+    }
+
+    private static EmployeeBulkOutcome outcome(Long id, BulkOutcomeStatus status, String message) {
+        return EmployeeBulkOutcome.builder()
+                .id(id)
+                .status(status)
+                .message(message)
+                .build();
+    }
+
+    private static EmployeeBulkOperationResponse toResponse(Collection<EmployeeBulkOutcome> outcomes, BulkOutcomeStatus success) {
+        int succeeded = (int) outcomes.stream().filter(outcome -> outcome.getStatus() == success).count();
+        return EmployeeBulkOperationResponse.builder()
+                .succeeded(succeeded)
+                .failed(outcomes.size() - succeeded)
+                .results(new ArrayList<>(outcomes))
+                .build();
+    }
+
+    private void validateEmails(List<EmployeeRequest> employeeRequests) {
+        Set<String> emails = new LinkedHashSet<>();
+        Set<String> duplicates = new LinkedHashSet<>();
+        for (EmployeeRequest employeeRequest : employeeRequests) {
+            if (!emails.add(employeeRequest.getEmail())) {
+                duplicates.add(employeeRequest.getEmail());
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            log.error("Bulk create contains duplicate emails: {}", duplicates);
+            throw new ApiException(
+                    "Emails appear more than once in the request: " + describe(duplicates),
+                    ErrorCode.VALIDATION_ERROR,
+                    HttpStatus.BAD_REQUEST.value()
+            );
+        }
+
+        List<String> emailList = new ArrayList<>(emails);
+        Set<String> existing = new LinkedHashSet<>();
+        forEachChunk(emailList, chunk -> existing.addAll(employeeRepository.findExistingEmails(chunk)));
+        if (!existing.isEmpty()) {
+            log.error("Employees with emails {} already exist", existing);
+            throw new ApiException(
+                    "Employees with emails " + describe(existing) + " already exist",
+                    ErrorCode.DUPLICATE_RESOURCE,
+                    HttpStatus.CONFLICT.value()
+            );
+        }
+    }
+
+    private Map<Long, Department> findDepartments(List<EmployeeRequest> employeeRequests) {
+        Set<Long> departmentIds = employeeRequests.stream()
+                .map(EmployeeRequest::getDepartmentId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, Department> departments = departmentRepository.findAllById(departmentIds).stream()
+                .collect(Collectors.toMap(Department::getId, Function.identity()));
+
+        Set<Long> missing = new HashSet<>(departmentIds);
+        missing.removeAll(departments.keySet());
+        if (!missing.isEmpty()) {
+            log.error("Departments with IDs {} not found", missing);
+            throw new ApiException(
+                    "Departments with IDs " + describe(missing) + " not found",
+                    ErrorCode.RESOURCE_NOT_FOUND,
+                    HttpStatus.NOT_FOUND.value()
+            );
+        }
+        return departments;
+    }
+
+    private static String describe(Collection<?> values) {
+        String listed = values.stream()
+                .limit(MAX_REPORTED_VALUES)
+                .map(String::valueOf)
+                .collect(Collectors.joining(", ", "[", "]"));
+        return values.size() > MAX_REPORTED_VALUES
+                ? listed + " and " + (values.size() - MAX_REPORTED_VALUES) + " more"
+                : listed;
+    }
+}
@@ -0,0 +1,112 @@
+package com.scb.application.service.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.scb.application.dto.projection.EmployeeProjection;
+import com.scb.application.enums.ExportFormat;
+import com.scb.application.repository.EmployeeRepository;
+import com.scb.application.service.EmployeeExportService;
+import com.scb.application.utils.CsvUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmployeeExportServiceImpl implements EmployeeExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,name,email,role,salary,hireDate,departmentId,departmentName";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final EmployeeRepository employeeRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportEmployees(ExportFormat format, OutputStream outputStream) throws IOException {
+        log.info("Exporting employees as {}", format);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+
+        long exported;
+        try (Stream<EmployeeProjection> rows = employeeRepository.streamAllForExport()) {
+            Iterator<EmployeeProjection> iterator = rows.iterator();
+            exported = format == ExportFormat.CSV ? writeCsv(iterator, writer) : writeNdjson(iterator, writer);
+        }
+        writer.flush();
+
+        log.info("Exported {} employees as {}", exported, format);
+        return exported;
+    }
+
+    private long writeCsv(Iterator<EmployeeProjection> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long count = 0;
+        while (rows.hasNext()) {
+            EmployeeProjection row = rows.next();
+            writer.write(row.id().toString());
+            writer.write(',');
+            writer.write(CsvUtils.escape(row.name()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(row.email()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(row.role()));
+            writer.write(',');
+            writer.write(row.salary().toString());
+            writer.write(',');
+            writer.write(toLocalDate(row.hireDate()).toString());
+            writer.write(',');
+            writer.write(row.departmentId().toString());
+            writer.write(',');
+            writer.write(CsvUtils.escape(row.departmentName()));
+            writer.write('\n');
+            count++;
+        }
+        return count;
+    }
+
+    private long writeNdjson(Iterator<EmployeeProjection> rows, Writer writer) throws IOException {
+        JsonGenerator generator = JSON_FACTORY.createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        long count = 0;
+        while (rows.hasNext()) {
+            EmployeeProjection row = rows.next();
+            generator.writeStartObject();
+            generator.writeNumberField("id", row.id());
+            generator.writeStringField("name", row.name());
+            generator.writeStringField("email", row.email());
+            generator.writeStringField("role", row.role());
+            generator.writeNumberField("salary", row.salary());
+            generator.writeStringField("hireDate", toLocalDate(row.hireDate()).toString());
+            generator.writeNumberField("departmentId", row.departmentId());
+            generator.writeStringField("departmentName", row.departmentName());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            count++;
+        }
+        generator.flush();
+        return count;
+    }
+
+    private LocalDate toLocalDate(Date date) {
+        if (date instanceof java.sql.Date sqlDate) {
+            return sqlDate.toLocalDate();
+        }
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+}
@@ -0,0 +1,428 @@
+package com.scb.application.service.impl;
+
+import com.scb.application.config.EmployeeImportConfig;
+import com.scb.application.constants.PaginationConstants;
+import com.scb.application.dto.request.EmployeeRequest;
+import com.scb.application.dto.response.EmployeeImportJobResponse;
+import com.scb.application.entity.Department;
+import com.scb.application.entity.Employee;
+import com.scb.application.enums.ImportJobStatus;
+import com.scb.application.exception.ApiException;
+import com.scb.application.exception.ErrorCode;
+import com.scb.application.mapper.EmployeeMapper;
+import com.scb.application.repository.DepartmentRepository;
+import com.scb.application.repository.EmployeeRepository;
+import com.scb.application.service.EmployeeImportService;
+import com.scb.application.service.PasswordHashingService;
+import com.scb.application.utils.CsvReader;
+import com.scb.application.utils.CsvUtils;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Imports employees from CSV uploads in the background. The upload is read one record at a time and
+ * handled in chunks: each row is validated with the {@link EmployeeRequest} rules, its department is
+ * resolved from a map loaded once per job, the chunk's passwords are hashed in parallel and the valid rows
+ * are inserted as JDBC batches in one transaction per chunk. Rejected rows go to a per-job error file,
+ * so memory use depends on the chunk size, not on the size of the upload.
+ */
+@Slf4j
+@Service
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+
+    static final String ERROR_FILE_HEADER = "line,email,error";
+    private static final List<String> COLUMNS = List.of("name", "email", "salary", "hireDate", "departmentId");
+    private static final int MAX_RECORD_LENGTH = 8 * 1024;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final EmployeeMapper employeeMapper;
+    private final PasswordHashingService passwordHashingService;
+    private final EmployeeBatchWriter employeeBatchWriter;
+    private final Validator validator;
+    private final Executor importExecutor;
+    private final int chunkSize;
+    private final Duration retention;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public EmployeeImportServiceImpl(EmployeeRepository employeeRepository,
+                                     DepartmentRepository departmentRepository,
+                                     EmployeeMapper employeeMapper,
+                                     PasswordHashingService passwordHashingService,
+                                     EmployeeBatchWriter employeeBatchWriter,
+                                     Validator validator,
+                                     @Qualifier(EmployeeImportConfig.EMPLOYEE_IMPORT_EXECUTOR) Executor importExecutor,
+                                     @Value("${employee.import.chunk-size}") int chunkSize,
+                                     @Value("${employee.import.retention}") Duration retention) {
+        this.employeeRepository = employeeRepository;
+        this.departmentRepository = departmentRepository;
+        this.employeeMapper = employeeMapper;
+        this.passwordHashingService = passwordHashingService;
+        this.employeeBatchWriter = employeeBatchWriter;
+        this.validator = validator;
+        this.importExecutor = importExecutor;
+        this.chunkSize = chunkSize;
+        this.retention = retention;
+    }
+
+    @Override
+    public EmployeeImportJobResponse startImport(MultipartFile file) {
+        if (file.isEmpty()) {
+            log.error("Import file is empty");
+            throw new ApiException("Import file is empty", ErrorCode.INVALID_INPUT, HttpStatus.BAD_REQUEST.value());
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString());
+        try {
+            // The multipart temp file is gone once the request completes, so keep a copy for the job
+            job.upload = Files.createTempFile("employee-import-", ".csv");
+            file.transferTo(job.upload);
+            job.columns = readColumns(job.upload);
+            job.errorFile = Files.createTempFile("employee-import-errors-", ".csv");
+            Files.writeString(job.errorFile, ERROR_FILE_HEADER + "\n", StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            job.deleteFiles();
+            log.error("Could not store import file {}", file.getOriginalFilename(), e);
+            throw new ApiException("Could not store the import file", ErrorCode.OPERATION_FAILED, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        } catch (ApiException e) {
+            job.deleteFiles();
+            throw e;
+        }
+
+        jobs.put(job.id, job);
+        try {
+            importExecutor.execute(() -> runImport(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            job.deleteFiles();
+            log.error("Import job {} rejected, too many imports queued", job.id);
+            throw new ApiException("Too many imports are in progress, please retry later", ErrorCode.SERVICE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+        log.info("Import job {} queued for file {}", job.id, file.getOriginalFilename());
+        return job.toResponse();
+    }
+
+    @Override
+    public EmployeeImportJobResponse getImportJob(String jobId) {
+        return findJob(jobId).toResponse();
+    }
+
+    @Override
+    public Resource getImportErrors(String jobId) {
+        return new FileSystemResource(findJob(jobId).errorFile);
+    }
+
+    /**
+     * Forgets finished jobs once they are older than the retention period and deletes their error files.
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    public void removeExpiredJobs() {
+        Instant expiry = Instant.now().minus(retention);
+        Iterator<ImportJob> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            ImportJob job = iterator.next();
+            if (job.finishedAt != null && job.finishedAt.isBefore(expiry)) {
+                iterator.remove();
+                job.deleteFiles();
+                log.info("Removed expired import job {}", job.id);
+            }
+        }
+    }
+
+    private ImportJob findJob(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            log.error("Import job not found with ID: {}", jobId);
+            throw new ApiException("Import job not found with ID: " + jobId, ErrorCode.RESOURCE_NOT_FOUND, HttpStatus.NOT_FOUND.value());
+        }
+        return job;
+    }
+
+    private Map<String, Integer> readColumns(Path upload) throws IOException {
+        try (CsvReader reader = openReader(upload)) {
+            List<String> header = reader.readRecord();
+            Map<String, Integer> positions = new HashMap<>();
+            if (header != null) {
+                for (int i = 0; i < header.size(); i++) {
+                    String column = header.get(i).trim();
+                    if (i == 0 && !column.isEmpty() && column.charAt(0) == BYTE_ORDER_MARK) {
+                        column = column.substring(1);
+                    }
+                    positions.putIfAbsent(column.toLowerCase(Locale.ROOT), i);
+                }
+            }
+
+            Map<String, Integer> columns = new HashMap<>();
+            List<String> missing = new ArrayList<>();
+            for (String column : COLUMNS) {
+                Integer position = positions.get(column.toLowerCase(Locale.ROOT));
+                if (position == null) {
+                    missing.add(column);
+                } else {
+                    columns.put(column, position);
+                }
+            }
+            if (!missing.isEmpty()) {
+                log.error("Import file is missing columns {}", missing);
+                throw new ApiException("Import file is missing columns: " + missing, ErrorCode.VALIDATION_ERROR, HttpStatus.BAD_REQUEST.value());
+            }
+            return columns;
+        }
+    }
+
+    private void runImport(ImportJob job) {
+        job.status = ImportJobStatus.RUNNING;
+        log.info("Import job {} started", job.id);
+        try (CsvReader reader = openReader(job.upload);
+             Writer errors = Files.newBufferedWriter(job.errorFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND)) {
+            reader.readRecord(); // header, checked on upload
+            Map<Long, Department> departments = departmentRepository.findAll().stream()
+                    .collect(Collectors.toMap(Department::getId, Function.identity()));
+
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            List<String> values;
+            while ((values = reader.readRecord()) != null) {
+                if (values.size() == 1 && values.get(0).isBlank()) {
+                    continue;
+                }
+                chunk.add(parseRow(reader.getRecordLine(), values, job.columns));
+                if (chunk.size() == chunkSize) {
+                    importChunk(job, chunk, departments, errors);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk, departments, errors);
+            }
+            job.finish(ImportJobStatus.COMPLETED, null);
+            log.info("Import job {} completed: {} imported, {} failed", job.id, job.imported.get(), job.failed.get());
+        } catch (IOException | RuntimeException e) {
+            log.error("Import job {} failed after {} rows", job.id, job.processed.get(), e);
+            job.finish(ImportJobStatus.FAILED, e.getMessage());
+        } finally {
+            deleteQuietly(job.upload);
+        }
+    }
+
+    private void importChunk(ImportJob job, List<ImportRow> rows, Map<Long, Department> departments, Writer errors) throws IOException {
+        // Validation and department lookup; duplicates within the chunk keep their first row
+        Map<String, ImportRow> valid = new LinkedHashMap<>();
+        for (ImportRow row : rows) {
+            if (row.error == null) {
+                row.error = validate(row.request, departments);
+            }
+            if (row.error == null && valid.putIfAbsent(row.request.getEmail(), row) != null) {
+                row.error = "Email appears more than once in the file";
+            }
+        }
+
+        // Emails committed by earlier chunks or other writers are caught here too
+        List<String> emails = new ArrayList<>(valid.keySet());
+        for (int from = 0; from < emails.size(); from += PaginationConstants.IN_CLAUSE_CHUNK_SIZE) {
+            for (String existing : employeeRepository.findExistingEmails(
+                    emails.subList(from, Math.min(from + PaginationConstants.IN_CLAUSE_CHUNK_SIZE, emails.size())))) {
+                ImportRow row = valid.remove(existing);
+                if (row != null) {
+                    row.error = "Employee with this email already exists";
+                }
+            }
+        }
+
+        List<ImportRow> accepted = new ArrayList<>(valid.values());
+        if (!accepted.isEmpty()) {
+            // Hash before opening the transaction, so no connection is held meanwhile
+            List<String> passwords = passwordHashingService.encodeDefaultPasswords(accepted.size());
+            List<Employee> employees = new ArrayList<>(accepted.size());
+            Iterator<ImportRow> iterator = accepted.iterator();
+            for (int i = 0; iterator.hasNext(); i++) {
+                ImportRow row = iterator.next();
+                try {
+                    employees.add(employeeMapper.toEntity(row.request, departments.get(row.request.getDepartmentId()), passwords.get(i)));
+                } catch (ApiException e) {
+                    row.error = e.getMessage();
+                    iterator.remove();
+                }
+            }
+            if (!employees.isEmpty()) {
+                try {
+                    employeeBatchWriter.insert(employees);
+                    job.imported.addAndGet(employees.size());
+                } catch (DataAccessException e) {
+                    log.error("Import job {} could not save the chunk starting at line {}", job.id, rows.get(0).line, e);
+                    accepted.forEach(row -> row.error = "Could not be saved, the rows of this chunk were rolled back");
+                }
+            }
+        }
+
+        for (ImportRow row : rows) {
+            if (row.error != null) {
+                writeError(errors, row);
+                job.failed.incrementAndGet();
+            }
+        }
+        errors.flush();
+        job.processed.addAndGet(rows.size());
+        log.debug("Import job {} processed {} rows", job.id, job.processed.get());
+    }
+
+    private ImportRow parseRow(long line, List<String> values, Map<String, Integer> columns) {
+        ImportRow row = new ImportRow(line);
+        row.request.setName(value(values, columns, "name"));
+        row.request.setEmail(value(values, columns, "email"));
+        row.request.setHireDate(value(values, columns, "hireDate"));
+
+        String salary = value(values, columns, "salary");
+        String departmentId = value(values, columns, "departmentId");
+        try {
+            row.request.setSalary(salary == null ? null : Double.valueOf(salary));
+        } catch (NumberFormatException e) {
+            row.error = "Salary must be a valid number";
+        }
+        try {
+            row.request.setDepartmentId(departmentId == null ? null : Long.valueOf(departmentId));
+        } catch (NumberFormatException e) {
+            row.error = "Department ID must be a valid number";
+        }
+        return row;
+    }
+
+    private String validate(EmployeeRequest request, Map<Long, Department> departments) {
+        Set<ConstraintViolation<EmployeeRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            // Several rules can reject the same value with the same message
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.toCollection(HashSet::new)).stream()
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (!departments.containsKey(request.getDepartmentId())) {
+            return "Department not found with ID: " + request.getDepartmentId();
+        }
+        return null;
+    }
+
+    private static String value(List<String> values, Map<String, Integer> columns, String column) {
+        int position = columns.get(column);
+        if (position >= values.size()) {
+            return null;
+        }
+        String value = values.get(position).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static void writeError(Writer errors, ImportRow row) throws IOException {
+        errors.write(Long.toString(row.line));
+        errors.write(',');
+        errors.write(CsvUtils.escape(row.request.getEmail()));
+        errors.write(',');
+        errors.write(CsvUtils.escape(row.error));
+        errors.write('\n');
+    }
+
+    private static CsvReader openReader(Path path) throws IOException {
+        return new CsvReader(Files.newBufferedReader(path, StandardCharsets.UTF_8), MAX_RECORD_LENGTH);
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary file {}", path, e);
+        }
+    }
+
+    private static final class ImportRow {
+
+        private final long line;
+        private final EmployeeRequest request = new EmployeeRequest();
+        private String error;
+
+        private ImportRow(long line) {
+            this.line = line;
+        }
+    }
+
+    private static final class ImportJob {
+
+        private final String id;
+        private final Instant createdAt = Instant.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private Path upload;
+        private Path errorFile;
+        private Map<String, Integer> columns;
+        private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+        private volatile Instant finishedAt;
+        private volatile String message;
+
+        private ImportJob(String id) {
+            this.id = id;
+        }
+
+        private void finish(ImportJobStatus status, String message) {
+            this.message = message;
+            this.finishedAt = Instant.now();
+            this.status = status;
+        }
+
+        private void deleteFiles() {
+            deleteQuietly(upload);
+            deleteQuietly(errorFile);
+        }
+
+        private EmployeeImportJobResponse toResponse() {
+            return EmployeeImportJobResponse.builder()
+                    .jobId(id)
+                    .status(status)
+                    .processedRows(processed.get())
+                    .importedRows(imported.get())
+                    .failedRows(failed.get())
+                    .createdAt(createdAt)
+                    .finishedAt(finishedAt)
+                    .message(message)
+                    .build();
+        }
+    }
+}
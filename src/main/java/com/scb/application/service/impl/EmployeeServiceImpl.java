@@ -1,24 +1,53 @@
 package com.scb.application.service.impl;
 
+import com.scb.application.annotation.SingleFlight;
+import com.scb.application.constants.CacheNames;
+import com.scb.application.constants.PaginationConstants;
+import com.scb.application.dto.projection.EmployeeProjection;
+import com.scb.application.dto.request.EmployeeBatchGetRequest;
 import com.scb.application.dto.request.EmployeeRequest;
+import com.scb.application.dto.request.EmployeeSearchRequest;
+import com.scb.application.dto.response.CursorPageResponse;
+import com.scb.application.dto.response.EmployeeBatchGetResponse;
 import com.scb.application.dto.response.EmployeeResponse;
+import com.scb.application.dto.response.EmployeeSuggestionResponse;
+import com.scb.application.dto.response.PageResponse;
 import com.scb.application.entity.Department;
 import com.scb.application.entity.Employee;
+import com.scb.application.enums.Role;
+import com.scb.application.event.EmployeeChangedEvent;
+import com.scb.application.event.EmployeeSnapshot;
 import com.scb.application.exception.ApiException;
 import com.scb.application.exception.ErrorCode;
 import com.scb.application.mapper.EmployeeMapper;
 import com.scb.application.repository.DepartmentRepository;
 import com.scb.application.repository.EmployeeRepository;
+import com.scb.application.repository.specification.EmployeeSpecifications;
+import com.scb.application.search.EmployeeSuggestionIndex;
+import com.scb.application.security.EmployeePrincipal;
 import com.scb.application.service.EmployeeService;
+import com.scb.application.service.PasswordHashingService;
+import com.scb.application.utils.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,12 +55,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class EmployeeServiceImpl implements EmployeeService {
 
+    private static final List<String> SEARCH_SORT_PROPERTIES = List.of("id", "name", "salary", "hireDate");
+
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
     private final EmployeeMapper employeeMapper;
+    private final EmployeeSuggestionIndex employeeSuggestionIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
 
+    /**
+     * Not transactional as a whole: the checks run as short reads and the password is hashed before the
+     * insert transaction starts, so a connection is only held for the insert itself.
+     */
     @Override
-    @Transactional
     public EmployeeResponse createEmployee(EmployeeRequest employeeRequest) {
         log.info("Creating new employee with email: {}", employeeRequest.getEmail());
 
@@ -44,7 +82,7 @@ public class EmployeeServiceImpl implements EmployeeService {
             );
         }
 
-        Department department = departmentRepository.findById(employeeRequest.getDepartmentId())
+        Department department = departmentRepository.findCachedById(employeeRequest.getDepartmentId())
             .orElseThrow(() -> {
                 log.error("Department with ID {} not found", employeeRequest.getDepartmentId());
                 return new ApiException(
@@ -55,30 +93,116 @@ public class EmployeeServiceImpl implements EmployeeService {
             });
 
         // Create new employee
-        Employee employee = employeeMapper.toEntity(employeeRequest, department);
+        Employee employee = employeeMapper.toEntity(employeeRequest, department, passwordHashingService.encodeDefaultPassword());
 
-        Employee savedEmployee = employeeRepository.save(employee);
-        log.info("Employee created successfully with ID: {}", savedEmployee.getId());
+        return transactionTemplate.execute(status -> {
+            Employee savedEmployee = employeeRepository.save(employee);
+            log.info("Employee created successfully with ID: {}", savedEmployee.getId());
+            eventPublisher.publishEvent(EmployeeChangedEvent.created(EmployeeSnapshot.of(savedEmployee)));
+            return employeeMapper.toResponseDto(savedEmployee);
+        });
+    }
 
-        return employeeMapper.toResponseDto(savedEmployee);
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<EmployeeResponse> getEmployees(String cursor, Integer limit, Long departmentId) {
+        int pageSize = limit == null ? PaginationConstants.DEFAULT_LIMIT : limit;
+        if (pageSize < 1 || pageSize > PaginationConstants.MAX_LIMIT) {
+            log.error("Invalid page limit {}", pageSize);
+            throw new ApiException(
+                    "Limit must be between 1 and " + PaginationConstants.MAX_LIMIT,
+                    ErrorCode.INVALID_INPUT,
+                    HttpStatus.BAD_REQUEST.value()
+            );
+        }
+        long afterId = cursor == null ? 0L : CursorCodec.decode(cursor, departmentId);
+        log.info("Fetching employees after ID {} (department: {}, limit: {})", afterId, departmentId, pageSize);
+
+        // Fetch one extra row to find out whether another page follows
+        Pageable window = PageRequest.of(0, pageSize + 1);
+        List<EmployeeProjection> employees = departmentId == null
+                ? employeeRepository.findPageAfter(afterId, window)
+                : employeeRepository.findDepartmentPageAfter(departmentId, afterId, window);
+
+        boolean hasNext = employees.size() > pageSize;
+        List<EmployeeProjection> page = hasNext ? employees.subList(0, pageSize) : employees;
+        String nextCursor = hasNext ? CursorCodec.encode(departmentId, page.get(pageSize - 1).id()) : null;
+        log.info("Found {} employees", page.size());
+
+        return CursorPageResponse.<EmployeeResponse>builder()
+                .items(page.stream()
+                        .map(employeeMapper::toResponseDto)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .limit(pageSize)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getEmployeesETag() {
+        // Listings carry department names, so department changes must change the tag too
+        return employeeRepository.findTableVersion().toETag() + "-" + departmentRepository.findTableVersion().toETag();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<EmployeeResponse> getAllEmployees() {
-        log.info("Fetching all employees");
-        List<Employee> employees = employeeRepository.findAll();
-        log.info("Found {} employees", employees.size());
-        return employees.stream()
-                .map(employeeMapper::toResponseDto)
-                .collect(Collectors.toList());
+    public PageResponse<EmployeeResponse> searchEmployees(EmployeeSearchRequest searchRequest) {
+        log.info("Searching employees with criteria: {}", searchRequest);
+        Pageable pageable = toSearchPageable(searchRequest);
+        validateSearchRanges(searchRequest);
+
+        Specification<Employee> specification = Specification
+                .where(EmployeeSpecifications.inDepartment(searchRequest.getDepartmentId()))
+                .and(EmployeeSpecifications.salaryAtLeast(searchRequest.getMinSalary()))
+                .and(EmployeeSpecifications.salaryAtMost(searchRequest.getMaxSalary()))
+                .and(EmployeeSpecifications.hiredOnOrAfter(searchRequest.getHiredFrom()))
+                .and(EmployeeSpecifications.hiredOnOrBefore(searchRequest.getHiredTo()))
+                .and(EmployeeSpecifications.hasRole(toRole(searchRequest.getRole())));
+
+        Page<EmployeeProjection> result = employeeRepository.search(specification, pageable);
+        log.info("Found {} matching employees", result.getTotalElements());
+
+        return PageResponse.<EmployeeResponse>builder()
+                .items(result.getContent().stream()
+                        .map(employeeMapper::toResponseDto)
+                        .collect(Collectors.toList()))
+                .page(result.getNumber())
+                .size(result.getSize())
+                .totalElements(result.getTotalElements())
+                .totalPages(result.getTotalPages())
+                .build();
     }
 
     @Override
+    public List<EmployeeSuggestionResponse> suggestEmployees(String query, Integer limit) {
+        int maxSuggestions = limit == null ? PaginationConstants.DEFAULT_SUGGESTION_LIMIT : limit;
+        if (maxSuggestions < 1 || maxSuggestions > PaginationConstants.MAX_SUGGESTION_LIMIT) {
+            log.error("Invalid suggestion limit {}", maxSuggestions);
+            throw new ApiException(
+                    "Limit must be between 1 and " + PaginationConstants.MAX_SUGGESTION_LIMIT,
+                    ErrorCode.INVALID_INPUT,
+                    HttpStatus.BAD_REQUEST.value()
+            );
+        }
+        if (query == null || query.isBlank() || query.length() > PaginationConstants.MAX_SUGGESTION_QUERY_LENGTH) {
+            log.error("Invalid suggestion query");
+            throw new ApiException(
+                    "Query must be between 1 and " + PaginationConstants.MAX_SUGGESTION_QUERY_LENGTH + " characters",
+                    ErrorCode.INVALID_INPUT,
+                    HttpStatus.BAD_REQUEST.value()
+            );
+        }
+        return employeeSuggestionIndex.suggest(query, maxSuggestions);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheNames.EMPLOYEES, key = "#id")
+    @SingleFlight
     @Transactional(readOnly = true)
     public EmployeeResponse getEmployeeById(Long id) {
         log.info("Fetching employee with ID: {}", id);
-        Employee employee = employeeRepository.findById(id)
+        EmployeeProjection employee = employeeRepository.findProjectionById(id)
                 .orElseThrow(() -> {
                     log.error("Employee with ID {} not found", id);
                     return new ApiException(
@@ -92,6 +216,38 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public EmployeeBatchGetResponse getEmployeesByIds(EmployeeBatchGetRequest batchGetRequest) {
+        List<Long> requestedIds = new ArrayList<>(new LinkedHashSet<>(batchGetRequest.getIds()));
+        log.info("Fetching {} employees by ID", requestedIds.size());
+
+        Map<Long, EmployeeProjection> employeesById = new HashMap<>(requestedIds.size() * 2);
+        for (int from = 0; from < requestedIds.size(); from += PaginationConstants.IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = requestedIds.subList(from, Math.min(from + PaginationConstants.IN_CLAUSE_CHUNK_SIZE, requestedIds.size()));
+            employeeRepository.findProjectionsByIdIn(chunk)
+                    .forEach(employee -> employeesById.put(employee.id(), employee));
+        }
+
+        List<EmployeeResponse> employees = new ArrayList<>(employeesById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            EmployeeProjection employee = employeesById.get(id);
+            if (employee == null) {
+                missingIds.add(id);
+            } else {
+                employees.add(employeeMapper.toResponseDto(employee));
+            }
+        }
+        log.info("Found {} employees, {} missing", employees.size(), missingIds.size());
+
+        return EmployeeBatchGetResponse.builder()
+                .employees(employees)
+                .missingIds(missingIds)
+                .build();
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheNames.EMPLOYEES, key = "#id")
     @Transactional
     public EmployeeResponse updateEmployee(Long id, EmployeeRequest employeeRequest) {
         log.info("Updating employee with ID: {}", id);
@@ -117,7 +273,7 @@ public class EmployeeServiceImpl implements EmployeeService {
             );
         }
 
-        Department department = departmentRepository.findById(employeeRequest.getDepartmentId())
+        Department department = departmentRepository.findCachedById(employeeRequest.getDepartmentId())
                 .orElseThrow(() -> {
                     log.error("Department with ID {} not found", employeeRequest.getDepartmentId());
                     return new ApiException(
@@ -127,6 +283,7 @@ public class EmployeeServiceImpl implements EmployeeService {
                     );
                 });
 
+        EmployeeSnapshot before = EmployeeSnapshot.of(existingEmployee);
         existingEmployee.setName(employeeRequest.getName());
         existingEmployee.setEmail(employeeRequest.getEmail());
         existingEmployee.setSalary(employeeRequest.getSalary());
@@ -146,42 +303,90 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         Employee updatedEmployee = employeeRepository.save(existingEmployee);
         log.info("Employee with ID: {} updated successfully", id);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, EmployeeSnapshot.of(updatedEmployee)));
 
         return employeeMapper.toResponseDto(updatedEmployee);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.EMPLOYEES, key = "#id")
     @Transactional
     public void deleteEmployee(Long id) {
         log.info("Deleting employee with ID: {}", id);
 
-        if (!employeeRepository.existsById(id)) {
-            log.error("Employee with ID {} not found", id);
+        Employee employeeToDelete = employeeRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.error("Employee with ID {} not found", id);
+                    return new ApiException(
+                            "Employee with ID " + id + " not found",
+                            ErrorCode.RESOURCE_NOT_FOUND,
+                            HttpStatus.NOT_FOUND.value()
+                    );
+                });
+
+        // Check if the employee being deleted is the current user
+        EmployeePrincipal currentUser = EmployeePrincipal.current();
+        if (currentUser != null && id.equals(currentUser.getId())) {
+            log.error("Cannot delete your own account");
             throw new ApiException(
-                    "Employee with ID " + id + " not found",
-                    ErrorCode.RESOURCE_NOT_FOUND,
-                    HttpStatus.NOT_FOUND.value()
+                    "You cannot delete your own account",
+                    ErrorCode.VALIDATION_ERROR,
+                    HttpStatus.BAD_REQUEST.value()
             );
         }
 
-        Employee employeeToDelete = employeeRepository.findById(id).get();
+        employeeRepository.delete(employeeToDelete);
+        log.info("Employee with ID: {} deleted successfully", id);
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(EmployeeSnapshot.of(employeeToDelete)));
+    }
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            String currentUserEmail = authentication.getName();
+    private Pageable toSearchPageable(EmployeeSearchRequest searchRequest) {
+        int page = searchRequest.getPage() == null ? 0 : searchRequest.getPage();
+        int size = searchRequest.getSize() == null ? PaginationConstants.DEFAULT_LIMIT : searchRequest.getSize();
+        if (page < 0 || size < 1 || size > PaginationConstants.MAX_LIMIT) {
+            throw invalidSearch("Page must be positive and size between 1 and " + PaginationConstants.MAX_LIMIT);
+        }
 
-            // Check if the employee being deleted is the current user
-            if (employeeToDelete.getEmail().equals(currentUserEmail)) {
-                log.error("Cannot delete your own account");
-                throw new ApiException(
-                        "You cannot delete your own account",
-                        ErrorCode.VALIDATION_ERROR,
-                        HttpStatus.BAD_REQUEST.value()
-                );
+        Sort sort = Sort.by(Sort.Direction.ASC, "id");
+        if (searchRequest.getSort() != null) {
+            String[] sortParts = searchRequest.getSort().split(",");
+            String property = sortParts[0].trim();
+            if (!SEARCH_SORT_PROPERTIES.contains(property) || sortParts.length > 2) {
+                throw invalidSearch("Sort must be one of " + SEARCH_SORT_PROPERTIES + " optionally followed by ,asc or ,desc");
             }
+            Sort.Direction direction = sortParts.length == 2
+                    ? Sort.Direction.fromOptionalString(sortParts[1].trim()).orElseThrow(() -> invalidSearch("Invalid sort direction"))
+                    : Sort.Direction.ASC;
+            // Keep the ID as a tie-breaker so pages are stable when sort values repeat
+            sort = Sort.by(direction, property).and(sort);
         }
+        return PageRequest.of(page, size, sort);
+    }
 
-        employeeRepository.deleteById(id);
-        log.info("Employee with ID: {} deleted successfully", id);
+    private void validateSearchRanges(EmployeeSearchRequest searchRequest) {
+        if (searchRequest.getMinSalary() != null && searchRequest.getMaxSalary() != null
+                && searchRequest.getMinSalary() > searchRequest.getMaxSalary()) {
+            throw invalidSearch("Minimum salary cannot be greater than maximum salary");
+        }
+        if (searchRequest.getHiredFrom() != null && searchRequest.getHiredTo() != null
+                && searchRequest.getHiredFrom().isAfter(searchRequest.getHiredTo())) {
+            throw invalidSearch("Hired-from date cannot be after hired-to date");
+        }
+    }
+
+    private String toRole(String role) {
+        if (role == null) {
+            return null;
+        }
+        try {
+            return Role.valueOf(role.toUpperCase()).name();
+        } catch (IllegalArgumentException e) {
+            throw invalidSearch("Unknown role: " + role);
+        }
+    }
+
+    private ApiException invalidSearch(String message) {
+        log.error("Invalid employee search: {}", message);
+        return new ApiException(message, ErrorCode.INVALID_INPUT, HttpStatus.BAD_REQUEST.value());
     }
 }
@@ -0,0 +1,82 @@
+package com.scb.application.service.impl;
+
+import com.scb.application.config.PasswordHashingConfig;
+import com.scb.application.exception.ApiException;
+import com.scb.application.exception.ErrorCode;
+import com.scb.application.service.PasswordHashingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs password hashing on the dedicated hashing executor, so BCrypt never burns CPU inside a transaction
+ * and bulk operations hash on all cores. Each hash is timed as {@code password.hashing}.
+ */
+@Slf4j
+@Service
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final Executor hashingExecutor;
+    private final Timer hashingTimer;
+    private final String defaultPassword;
+
+    public PasswordHashingServiceImpl(PasswordEncoder passwordEncoder,
+                                      @Qualifier(PasswordHashingConfig.PASSWORD_HASHING_EXECUTOR) Executor hashingExecutor,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${employee.default.password}") String defaultPassword) {
+        this.passwordEncoder = passwordEncoder;
+        this.hashingExecutor = hashingExecutor;
+        this.hashingTimer = Timer.builder("password.hashing")
+                .description("Time spent hashing a password")
+                .register(meterRegistry);
+        this.defaultPassword = defaultPassword;
+    }
+
+    @Override
+    public String encodeDefaultPassword() {
+        return join(encodeAsync(defaultPassword));
+    }
+
+    @Override
+    public List<String> encodeDefaultPasswords(int count) {
+        List<CompletableFuture<String>> hashes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            hashes.add(encodeAsync(defaultPassword));
+        }
+        List<String> encoded = new ArrayList<>(count);
+        for (CompletableFuture<String> hash : hashes) {
+            encoded.add(join(hash));
+        }
+        return encoded;
+    }
+
+    private CompletableFuture<String> encodeAsync(String rawPassword) {
+        return CompletableFuture.supplyAsync(() -> hashingTimer.record(() -> passwordEncoder.encode(rawPassword)), hashingExecutor);
+    }
+
+    private static String join(CompletableFuture<String> hash) {
+        try {
+            return hash.join();
+        } catch (CompletionException e) {
+            log.error("Password hashing failed", e.getCause());
+            throw new ApiException(
+                    "Password hashing failed",
+                    e.getCause(),
+                    ErrorCode.INTERNAL_SERVER_ERROR,
+                    HttpStatus.INTERNAL_SERVER_ERROR.value()
+            );
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.scb.application.service.impl;
+
+import com.scb.application.config.SummaryBackfillConfig;
+import com.scb.application.dto.response.SummaryBackfillResponse;
+import com.scb.application.exception.ApiException;
+import com.scb.application.exception.ErrorCode;
+import com.scb.application.headcount.HireTimeline;
+import com.scb.application.repository.DailySummaryRepository;
+import com.scb.application.repository.DepartmentRepository;
+import com.scb.application.repository.EmployeeRepository;
+import com.scb.application.service.SummaryBackfillService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Rebuilds the headcounts and hires of past daily summaries with two queries and one write per partition
+ * instead of a count per day. Past salaries are not kept, so salary figures are not backfilled.
+ * All hires up to the end of the range are loaded once into a {@link HireTimeline}; the range is then split
+ * in halves on a fork-join pool until each part spans at most {@code summary.backfill.partition-days} days,
+ * and every part sweeps its days and upserts its summaries in a transaction of its own.
+ */
+@Slf4j
+@Service
+public class SummaryBackfillServiceImpl implements SummaryBackfillService {
+
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final DailySummaryRepository dailySummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool backfillPool;
+    private final int partitionDays;
+    private final int maxDays;
+
+    public SummaryBackfillServiceImpl(EmployeeRepository employeeRepository,
+                                      DepartmentRepository departmentRepository,
+                                      DailySummaryRepository dailySummaryRepository,
+                                      TransactionTemplate transactionTemplate,
+                                      @Qualifier(SummaryBackfillConfig.SUMMARY_BACKFILL_POOL) ForkJoinPool backfillPool,
+                                      @Value("${summary.backfill.partition-days}") int partitionDays,
+                                      @Value("${summary.backfill.max-days}") int maxDays) {
+        this.employeeRepository = employeeRepository;
+        this.departmentRepository = departmentRepository;
+        this.dailySummaryRepository = dailySummaryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.backfillPool = backfillPool;
+        this.partitionDays = partitionDays;
+        this.maxDays = maxDays;
+    }
+
+    @Override
+    public SummaryBackfillResponse backfillSummaries(LocalDate from, LocalDate to) {
+        long days = validateRange(from, to);
+        log.info("Backfilling daily summaries from {} to {}", from, to);
+
+        HireTimeline timeline = new HireTimeline(
+                departmentRepository.findAllIds(),
+                employeeRepository.findHiresUpTo(java.sql.Date.valueOf(to)));
+        int departments = timeline.getDepartmentIds().length;
+        int summaries = departments == 0 ? 0 : backfillPool.invoke(new BackfillTask(timeline, from, to));
+
+        log.info("Backfilled {} department summaries from {} to {}", summaries, from, to);
+        return SummaryBackfillResponse.builder()
+                .from(from)
+                .to(to)
+                .days(days)
+                .departments(departments)
+                .summaries(summaries)
+                .build();
+    }
+
+    private long validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            log.error("Backfill range starts on {} after it ends on {}", from, to);
+            throw new ApiException("The backfill start date must not be after its end date",
+                    ErrorCode.INVALID_INPUT, HttpStatus.BAD_REQUEST.value());
+        }
+        if (to.isAfter(LocalDate.now())) {
+            log.error("Backfill range ends in the future on {}", to);
+            throw new ApiException("Summaries cannot be backfilled for future dates",
+                    ErrorCode.INVALID_INPUT, HttpStatus.BAD_REQUEST.value());
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > maxDays) {
+            log.error("Backfill range of {} days exceeds the limit of {}", days, maxDays);
+            throw new ApiException("At most " + maxDays + " days can be backfilled at once",
+                    ErrorCode.VALIDATION_ERROR, HttpStatus.BAD_REQUEST.value());
+        }
+        return days;
+    }
+
+    private int writeSummaries(HireTimeline timeline, LocalDate from, LocalDate to) {
+        Long[] departmentIds = timeline.getDepartmentIds();
+        // The sweep starts a day early, so the hires of each day are its increase over the day before
+        long[][] headcounts = timeline.headcounts(from.minusDays(1), to);
+        int size = (headcounts.length - 1) * departmentIds.length;
+        LocalDate[] summaryDates = new LocalDate[size];
+        Long[] summaryDepartmentIds = new Long[size];
+        Long[] employeeCounts = new Long[size];
+        Long[] newHires = new Long[size];
+        int i = 0;
+        for (int day = 1; day < headcounts.length; day++) {
+            for (int d = 0; d < departmentIds.length; d++) {
+                summaryDates[i] = from.plusDays(day - 1);
+                summaryDepartmentIds[i] = departmentIds[d];
+                employeeCounts[i] = headcounts[day][d];
+                newHires[i++] = headcounts[day][d] - headcounts[day - 1][d];
+            }
+        }
+        Integer written = transactionTemplate.execute(status ->
+                dailySummaryRepository.upsertSummaryRange(summaryDates, summaryDepartmentIds, employeeCounts, newHires));
+        return written == null ? 0 : written;
+    }
+
+    private class BackfillTask extends RecursiveTask<Integer> {
+
+        private final HireTimeline timeline;
+        private final LocalDate from;
+        private final LocalDate to;
+
+        BackfillTask(HireTimeline timeline, LocalDate from, LocalDate to) {
+            this.timeline = timeline;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            long days = ChronoUnit.DAYS.between(from, to) + 1;
+            if (days <= partitionDays) {
+                return writeSummaries(timeline, from, to);
+            }
+            LocalDate middle = from.plusDays(days / 2);
+            BackfillTask first = new BackfillTask(timeline, from, middle.minusDays(1));
+            first.fork();
+            int second = new BackfillTask(timeline, middle, to).compute();
+            return first.join() + second;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.scb.application.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader: returns one record at a time, so memory use is bounded by the longest record
+ * rather than the file size. Quoted fields may contain separators, doubled quotes and line breaks.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int END = -1;
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final int maxRecordLength;
+    private final StringBuilder field = new StringBuilder();
+    private long line = 1;
+    private long recordLine;
+    private int pending = NONE;
+
+    public CsvReader(Reader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * Reads the next record, or returns null at the end of the input.
+     *
+     * @throws IOException if the record is longer than the limit or a quoted field is never closed
+     */
+    public List<String> readRecord() throws IOException {
+        long startLine = line;
+        int c = read();
+        if (c == END) {
+            return null;
+        }
+        recordLine = startLine;
+        List<String> values = new ArrayList<>();
+        int length = 0;
+        boolean quoted = false;
+        field.setLength(0);
+        while (true) {
+            if (++length > maxRecordLength) {
+                throw new IOException("Record at line " + recordLine + " is longer than " + maxRecordLength + " characters");
+            }
+            if (quoted) {
+                if (c == END) {
+                    throw new IOException("Unterminated quoted field in record at line " + recordLine);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == END) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pending = next;
+                    }
+                }
+                values.add(field.toString());
+                return values;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * @return the line on which the last record returned by {@link #readRecord()} started
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (pending != NONE) {
+            int c = pending;
+            pending = NONE;
+            return c;
+        }
+        int c = reader.read();
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+}
@@ -0,0 +1,23 @@
+package com.scb.application.utils;
+
+
+public class CsvUtils {
+
+    private CsvUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Escapes a value for a CSV cell, quoting it only when it contains a separator, quote or line break.
+     */
+    public static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
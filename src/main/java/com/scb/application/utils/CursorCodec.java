@@ -0,0 +1,53 @@
+package com.scb.application.utils;
+
+import com.scb.application.exception.ApiException;
+import com.scb.application.exception.ErrorCode;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Encodes and decodes the opaque cursors used for keyset pagination.
+ * A cursor carries the last seen ID together with the department filter it was issued for,
+ * so it cannot be replayed against a different listing.
+ */
+public class CursorCodec {
+
+    private static final String SEPARATOR = ":";
+
+    private CursorCodec() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static String encode(Long departmentId, Long lastId) {
+        String raw = (departmentId == null ? "" : departmentId.toString()) + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor and returns the last seen ID.
+     * @param cursor the cursor returned by a previous page
+     * @param departmentId the department filter of the current request, may be null
+     * @return the ID after which the next page starts
+     */
+    public static long decode(String cursor, Long departmentId) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            String departmentPart = raw.substring(0, separatorIndex);
+            Long cursorDepartmentId = departmentPart.isEmpty() ? null : Long.valueOf(departmentPart);
+            if (!Objects.equals(cursorDepartmentId, departmentId)) {
+                throw new ApiException(
+                        "Cursor does not match the requested department filter",
+                        ErrorCode.INVALID_INPUT,
+                        HttpStatus.BAD_REQUEST.value()
+                );
+            }
+            return Long.parseLong(raw.substring(separatorIndex + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ApiException("Invalid cursor", e, ErrorCode.INVALID_INPUT, HttpStatus.BAD_REQUEST.value());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.scb.application.utils;
+
+import java.time.Instant;
+
+/**
+ * The claims of a JWT whose signature and expiry have been checked.
+ * The employee and department IDs are null for tokens issued before they were added as claims.
+ */
+public record VerifiedToken(
+        String subject,
+        String role,
+        Long employeeId,
+        Long departmentId,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
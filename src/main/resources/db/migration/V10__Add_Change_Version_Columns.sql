@@ -0,0 +1,11 @@
+-- Change versions kept by the database: every insert and every update that changes a row draws the next value,
+-- whoever writes it. COUNT(*) and MAX(change_version) are answered from the index, so a table's ETag is a lookup.
+CREATE SEQUENCE change_version_seq;
+
+ALTER TABLE departments ADD COLUMN change_version BIGINT
+    DEFAULT NEXT VALUE FOR change_version_seq ON UPDATE NEXT VALUE FOR change_version_seq NOT NULL;
+CREATE INDEX idx_departments_change_version ON departments (change_version);
+
+ALTER TABLE employees ADD COLUMN change_version BIGINT
+    DEFAULT NEXT VALUE FOR change_version_seq ON UPDATE NEXT VALUE FOR change_version_seq NOT NULL;
+CREATE INDEX idx_employees_change_version ON employees (change_version);
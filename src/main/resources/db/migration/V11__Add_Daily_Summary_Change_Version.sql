@@ -0,0 +1,4 @@
+-- Same change version as employees and departments, so rebuilt or backfilled days change the summaries' ETag
+ALTER TABLE daily_summary ADD COLUMN change_version BIGINT
+    DEFAULT NEXT VALUE FOR change_version_seq ON UPDATE NEXT VALUE FOR change_version_seq NOT NULL;
+CREATE INDEX idx_daily_summary_change_version ON daily_summary (change_version);
@@ -0,0 +1,3 @@
+-- Search results sorted by name or salary across all departments, with the ID as tie-breaker
+CREATE INDEX idx_employees_name_id ON employees (name, id);
+CREATE INDEX idx_employees_salary_id ON employees (salary, id);
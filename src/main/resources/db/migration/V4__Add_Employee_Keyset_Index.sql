@@ -0,0 +1,2 @@
+-- Supports keyset pagination of employees filtered by department: WHERE department_id = ? AND id > ? ORDER BY id
+CREATE INDEX idx_employees_department_id_id ON employees (department_id, id);
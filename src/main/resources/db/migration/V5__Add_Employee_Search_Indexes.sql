@@ -0,0 +1,6 @@
+-- Composite indexes for the employee search: department plus a hire-date or salary range
+CREATE INDEX idx_employees_department_id_hire_date ON employees (department_id, hire_date);
+CREATE INDEX idx_employees_department_id_salary ON employees (department_id, salary);
+
+-- Hire-date ranges searched across all departments
+CREATE INDEX idx_employees_hire_date ON employees (hire_date);
@@ -0,0 +1,3 @@
+-- Optimistic-locking versions, also used to build ETags for conditional GETs
+ALTER TABLE departments ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE employees ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
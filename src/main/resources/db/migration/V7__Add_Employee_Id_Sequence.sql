@@ -0,0 +1,4 @@
+-- Hibernate allocates employee IDs from this sequence in blocks of 50 (pooled-lo), which lets inserts be batched.
+-- The sequence continues after the IDs already handed out by the identity column.
+CREATE SEQUENCE employees_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE employees_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM employees);
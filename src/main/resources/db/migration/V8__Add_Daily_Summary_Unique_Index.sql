@@ -0,0 +1,11 @@
+-- One summary per department and day, so generation can upsert with a single MERGE.
+-- Earlier runs could leave duplicates; keep the most recent row of each pair.
+DELETE FROM daily_summary s
+WHERE EXISTS (
+    SELECT 1 FROM daily_summary newer
+    WHERE newer.summary_date = s.summary_date
+      AND newer.department_id = s.department_id
+      AND newer.id > s.id
+);
+
+CREATE UNIQUE INDEX uk_daily_summary_summary_date_department_id ON daily_summary (summary_date, department_id);
@@ -0,0 +1,7 @@
+-- Payroll and new-hire figures per department and day, computed in the same pass as the headcount.
+-- Salary figures stay NULL for days rebuilt by a backfill, since past salaries are not kept.
+ALTER TABLE daily_summary ADD COLUMN total_salary DOUBLE;
+ALTER TABLE daily_summary ADD COLUMN average_salary DOUBLE;
+ALTER TABLE daily_summary ADD COLUMN min_salary DOUBLE;
+ALTER TABLE daily_summary ADD COLUMN max_salary DOUBLE;
+ALTER TABLE daily_summary ADD COLUMN new_hires INT DEFAULT 0 NOT NULL;
@@ -0,0 +1,121 @@
+package com.scb.application.aspect;
+
+import com.scb.application.annotation.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightAspectTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SlowLookup target;
+    private SlowLookup proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        target = new SlowLookup();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(new SingleFlightAspect(meterRegistry));
+        proxy = proxyFactory.getProxy();
+    }
+
+    @Test
+    void coalesce_ConcurrentIdenticalCallsShareOneInvocation() throws Exception {
+        List<Future<String>> results = callConcurrently(() -> proxy.find(1L));
+
+        for (Future<String> result : results) {
+            assertEquals("value-1", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, target.invocations.get());
+        assertEquals(1.0, count("leader"));
+        assertEquals(CALLERS - 1, count("follower"));
+    }
+
+    @Test
+    void coalesce_FollowersReceiveTheLeaderException() throws Exception {
+        List<Future<String>> results = callConcurrently(() -> proxy.find(-1L));
+
+        for (Future<String> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        }
+        assertEquals(1, target.invocations.get());
+    }
+
+    @Test
+    void coalesce_SequentialAndDistinctCallsAreNotShared() {
+        target.release.countDown();
+
+        assertEquals("value-1", proxy.find(1L));
+        assertEquals("value-1", proxy.find(1L));
+        assertEquals("value-2", proxy.find(2L));
+
+        assertEquals(3, target.invocations.get());
+        assertEquals(3.0, count("leader"));
+        assertEquals(0.0, count("follower"));
+    }
+
+    private List<Future<String>> callConcurrently(Callable<String> call) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(call));
+            }
+            // Let the leader finish only once every caller has joined it
+            assertTrue(target.started.await(5, TimeUnit.SECONDS));
+            while (count("leader") + count("follower") < CALLERS) {
+                Thread.sleep(5);
+            }
+            target.release.countDown();
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private double count(String role) {
+        return meterRegistry.find("single.flight.calls").tag("role", role).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    static class SlowLookup {
+
+        final AtomicInteger invocations = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @SingleFlight
+        public String find(Long id) {
+            invocations.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (id < 0) {
+                throw new IllegalArgumentException("Invalid ID");
+            }
+            return "value-" + id;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.scb.application.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards against the dedicated executor beans displacing Boot's application executor,
+ * which would leave MVC async work on a new thread per request.
+ */
+class TaskExecutionConfigTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class, WebMvcAutoConfiguration.class))
+            .withUserConfiguration(PasswordHashingConfig.class, EmployeeImportConfig.class, LoginConfig.class,
+                    SummaryBackfillConfig.class, TaskExecutionConfig.class, WebMvcConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues("spring.task.execution.pool.core-size=2", "spring.task.execution.pool.max-size=4", "spring.task.execution.pool.queue-capacity=10");
+
+    @Test
+    void applicationTaskExecutor_PresentAndBounded() {
+        contextRunner.run(context -> {
+            ThreadPoolTaskExecutor executor = context.getBean(TaskExecutionConfig.APPLICATION_TASK_EXECUTOR, ThreadPoolTaskExecutor.class);
+
+            assertEquals(4, executor.getMaxPoolSize());
+            assertEquals(10, executor.getQueueCapacity());
+            assertSame(executor, ReflectionTestUtils.getField(context.getBean(RequestMappingHandlerAdapter.class), "taskExecutor"));
+        });
+    }
+}
@@ -0,0 +1,136 @@
+package com.scb.application.headcount;
+
+import com.scb.application.entity.Department;
+import com.scb.application.event.EmployeeChangedEvent;
+import com.scb.application.event.EmployeeSnapshot;
+import com.scb.application.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentHeadcountRegistryTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private MeterRegistry meterRegistry;
+    private DepartmentHeadcountRegistry headcountRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        headcountRegistry = new DepartmentHeadcountRegistry(employeeRepository, meterRegistry);
+        when(employeeRepository.countEmployeesByDepartment()).thenReturn(List.of(
+                new Object[]{1L, 3L},
+                new Object[]{2L, 1L}
+        ));
+        headcountRegistry.seed();
+    }
+
+    @Test
+    void seed_LoadsCountsFromDatabase() {
+        assertEquals(3, headcountRegistry.getHeadcount(1L));
+        assertEquals(1, headcountRegistry.getHeadcount(2L));
+        assertEquals(0, headcountRegistry.getHeadcount(3L));
+    }
+
+    @Test
+    void onEmployeeChanged_CreateAndDelete() {
+
+        headcountRegistry.onEmployeeChanged(EmployeeChangedEvent.created(employee(10L, 3L)));
+        headcountRegistry.onEmployeeChanged(EmployeeChangedEvent.deleted(employee(11L, 1L)));
+
+        assertEquals(1, headcountRegistry.getHeadcount(3L));
+        assertEquals(2, headcountRegistry.getHeadcount(1L));
+    }
+
+    @Test
+    void onEmployeeChanged_TransferMovesOneEmployee() {
+
+        headcountRegistry.onEmployeeChanged(EmployeeChangedEvent.updated(employee(11L, 1L), employee(11L, 2L)));
+
+        assertEquals(2, headcountRegistry.getHeadcount(1L));
+        assertEquals(2, headcountRegistry.getHeadcount(2L));
+    }
+
+    @Test
+    void onEmployeeChanged_SameDepartmentLeavesCountsAlone() {
+
+        headcountRegistry.onEmployeeChanged(EmployeeChangedEvent.updated(employee(11L, 1L), employee(11L, 1L)));
+
+        assertEquals(3, headcountRegistry.getHeadcount(1L));
+    }
+
+    @Test
+    void reconcile_CorrectsDriftOfThatDepartmentOnly() {
+        // A missed event and an employee added directly in the database
+        Department department = department(1L);
+        headcountRegistry.onEmployeeChanged(EmployeeChangedEvent.created(employee(10L, 1L)));
+        when(employeeRepository.countByDepartment(department)).thenReturn(5);
+
+
+        long headcount = headcountRegistry.reconcile(department);
+
+
+        assertEquals(5, headcount);
+        assertEquals(5, headcountRegistry.getHeadcount(1L));
+        assertEquals(1, headcountRegistry.getHeadcount(2L));
+        assertEquals(1.0, meterRegistry.counter("department.headcount.drift").count());
+        verify(employeeRepository, times(1)).countEmployeesByDepartment();
+    }
+
+    @Test
+    void reconcile_ChangeVisibleToTheReadIsNotCountedTwice() {
+        // The hire commits while the count is read, and its event is applied before the read returns
+        Department department = department(1L);
+        when(employeeRepository.countByDepartment(department)).thenAnswer(invocation -> {
+            headcountRegistry.onEmployeeChanged(EmployeeChangedEvent.created(employee(10L, 1L)));
+            return 4;
+        }).thenReturn(4);
+
+
+        long headcount = headcountRegistry.reconcile(department);
+
+
+        assertEquals(4, headcount);
+        assertEquals(4, headcountRegistry.getHeadcount(1L));
+        assertEquals(0.0, meterRegistry.counter("department.headcount.drift").count());
+    }
+
+    @Test
+    void reconcile_ChangeMissedByTheReadIsKept() {
+        // The hire commits after the count was read, but its event is applied before it is corrected
+        Department department = department(1L);
+        when(employeeRepository.countByDepartment(department)).thenAnswer(invocation -> {
+            headcountRegistry.onEmployeeChanged(EmployeeChangedEvent.created(employee(10L, 1L)));
+            return 3;
+        }).thenReturn(4);
+
+
+        long headcount = headcountRegistry.reconcile(department);
+
+
+        assertEquals(4, headcount);
+        assertEquals(4, headcountRegistry.getHeadcount(1L));
+    }
+
+    private static Department department(Long id) {
+        Department department = new Department();
+        department.setId(id);
+        return department;
+    }
+
+    private static EmployeeSnapshot employee(Long id, Long departmentId) {
+        return new EmployeeSnapshot(id, "Employee " + id, "employee" + id + "@example.com", "USER", departmentId);
+    }
+}
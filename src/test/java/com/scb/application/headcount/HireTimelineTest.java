@@ -0,0 +1,57 @@
+package com.scb.application.headcount;
+
+import com.scb.application.dto.projection.DepartmentHire;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HireTimelineTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 10);
+
+    private final HireTimeline timeline = new HireTimeline(List.of(1L, 2L, 3L), List.of(
+            new DepartmentHire(1L, DAY.plusDays(2)),
+            new DepartmentHire(2L, DAY.minusDays(30)),
+            new DepartmentHire(1L, DAY),
+            new DepartmentHire(1L, DAY.minusYears(1)),
+            new DepartmentHire(1L, DAY.plusDays(2)),
+            new DepartmentHire(9L, DAY)
+    ));
+
+    @Test
+    void headcounts_CountsHiresOnOrBeforeEachDay() {
+
+        long[][] headcounts = timeline.headcounts(DAY.minusDays(1), DAY.plusDays(3));
+
+        assertArrayEquals(new long[]{1, 1, 0}, headcounts[0]);
+        assertArrayEquals(new long[]{2, 1, 0}, headcounts[1]);
+        assertArrayEquals(new long[]{2, 1, 0}, headcounts[2]);
+        assertArrayEquals(new long[]{4, 1, 0}, headcounts[3]);
+        assertArrayEquals(new long[]{4, 1, 0}, headcounts[4]);
+    }
+
+    @Test
+    void headcounts_PartitionsMatchOneSweep() {
+
+        long[][] whole = timeline.headcounts(DAY.minusDays(5), DAY.plusDays(5));
+        long[][] first = timeline.headcounts(DAY.minusDays(5), DAY);
+        long[][] second = timeline.headcounts(DAY.plusDays(1), DAY.plusDays(5));
+
+        for (int day = 0; day < whole.length; day++) {
+            long[] part = day < first.length ? first[day] : second[day - first.length];
+            assertArrayEquals(whole[day], part);
+        }
+    }
+
+    @Test
+    void headcounts_BeforeFirstHireIsZero() {
+
+        long[][] headcounts = timeline.headcounts(DAY.minusYears(2), DAY.minusYears(2));
+
+        assertArrayEquals(new long[]{0, 0, 0}, headcounts[0]);
+        assertArrayEquals(new Long[]{1L, 2L, 3L}, timeline.getDepartmentIds());
+    }
+}
@@ -0,0 +1,169 @@
+package com.scb.application.repository;
+
+import com.scb.application.dto.projection.DailySummaryPoint;
+import com.scb.application.dto.projection.TableVersion;
+import com.scb.application.entity.DailySummary;
+import com.scb.application.entity.Department;
+import com.scb.application.entity.Employee;
+import com.scb.application.support.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins daily summary generation to one statement however many departments exist,
+ * and checks that the MERGE both inserts new summaries and refreshes existing ones, for one date or a backfilled range.
+ */
+@DataJpaTest
+class DailySummaryRepositoryTest {
+
+    private static final LocalDate SUMMARY_DATE = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private DailySummaryRepository dailySummaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private QueryCounter queryCounter;
+    private Department staffed;
+    private Department empty;
+    private long departments;
+
+    @BeforeEach
+    void setUp() {
+        staffed = entityManager.persist(new Department("Summary Staffed"));
+        empty = entityManager.persist(new Department("Summary Empty"));
+        for (int i = 0; i < 3; i++) {
+            // Salaries of 1000, 2000 and 3000; the last employee is hired on the summary date
+            LocalDate hireDate = i < 2 ? SUMMARY_DATE.minusDays(10) : SUMMARY_DATE;
+            Employee employee = new Employee("Summary " + i, "summary" + i + "@example.com", 1000.0 * (i + 1),
+                    java.sql.Date.valueOf(hireDate), staffed);
+            employee.setPassword("password");
+            entityManager.persist(employee);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        departments = entityManager.getEntityManager()
+                .createQuery("SELECT COUNT(d) FROM Department d", Long.class)
+                .getSingleResult();
+
+        queryCounter = new QueryCounter(entityManagerFactory);
+        queryCounter.reset();
+    }
+
+    @Test
+    void upsertSummaries_InsertsOneRowPerDepartmentInOneStatement() {
+
+        int written = dailySummaryRepository.upsertSummaries(SUMMARY_DATE);
+
+
+        assertEquals(departments, written);
+        queryCounter.assertAtMost(1);
+        DailySummary staffedSummary = summaryOf(staffed);
+        assertEquals(3, staffedSummary.getEmployeeCount());
+        assertEquals(1, staffedSummary.getNewHires());
+        assertEquals(6000.0, staffedSummary.getTotalSalary());
+        assertEquals(2000.0, staffedSummary.getAverageSalary());
+        assertEquals(1000.0, staffedSummary.getMinSalary());
+        assertEquals(3000.0, staffedSummary.getMaxSalary());
+        DailySummary emptySummary = summaryOf(empty);
+        assertEquals(0, emptySummary.getEmployeeCount());
+        assertEquals(0, emptySummary.getNewHires());
+        assertEquals(0.0, emptySummary.getTotalSalary());
+        assertNull(emptySummary.getAverageSalary());
+    }
+
+    @Test
+    void upsertSummaries_UpdatesExistingRows() {
+        dailySummaryRepository.upsertSummaries(SUMMARY_DATE);
+        TableVersion before = dailySummaryRepository.findTableVersion();
+        Employee employee = new Employee("Summary New", "summary.new@example.com", 4000.0,
+                java.sql.Date.valueOf(SUMMARY_DATE), entityManager.find(Department.class, staffed.getId()));
+        employee.setPassword("password");
+        entityManager.persist(employee);
+        entityManager.flush();
+        entityManager.clear();
+
+
+        dailySummaryRepository.upsertSummaries(SUMMARY_DATE);
+
+
+        List<DailySummary> summaries = dailySummaryRepository.findBySummaryDate(SUMMARY_DATE);
+        assertEquals(departments, summaries.size());
+        DailySummary staffedSummary = summaryOf(staffed);
+        assertEquals(4, staffedSummary.getEmployeeCount());
+        assertEquals(2, staffedSummary.getNewHires());
+        assertEquals(10000.0, staffedSummary.getTotalSalary());
+        assertEquals(4000.0, staffedSummary.getMaxSalary());
+        TableVersion after = dailySummaryRepository.findTableVersion();
+        assertEquals(before.count(), after.count());
+        assertTrue(after.lastChangeVersion() > before.lastChangeVersion());
+    }
+
+    @Test
+    void upsertSummaryRange_WritesManyDatesInOneStatement() {
+        dailySummaryRepository.upsertSummaries(SUMMARY_DATE);
+        queryCounter.reset();
+
+
+        int written = dailySummaryRepository.upsertSummaryRange(
+                new LocalDate[]{SUMMARY_DATE, SUMMARY_DATE.plusDays(1), SUMMARY_DATE.plusDays(1)},
+                new Long[]{staffed.getId(), staffed.getId(), empty.getId()},
+                new Long[]{2L, 3L, 0L},
+                new Long[]{0L, 1L, 0L});
+
+
+        assertEquals(3, written);
+        queryCounter.assertAtMost(1);
+        DailySummary refreshed = summaryOf(staffed);
+        assertEquals(2, refreshed.getEmployeeCount());
+        assertEquals(0, refreshed.getNewHires());
+        assertEquals(6000.0, refreshed.getTotalSalary());
+        DailySummary inserted = dailySummaryRepository.findBySummaryDateAndDepartment(SUMMARY_DATE.plusDays(1), staffed)
+                .orElseThrow();
+        assertEquals(3, inserted.getEmployeeCount());
+        assertEquals(1, inserted.getNewHires());
+        assertNull(inserted.getTotalSalary());
+    }
+
+    @Test
+    void streamRange_GroupsByDepartmentInDateOrder() {
+        dailySummaryRepository.upsertSummaryRange(
+                new LocalDate[]{SUMMARY_DATE.plusDays(1), SUMMARY_DATE, SUMMARY_DATE.plusDays(2)},
+                new Long[]{staffed.getId(), staffed.getId(), staffed.getId()},
+                new Long[]{4L, 3L, 5L},
+                new Long[]{1L, 0L, 1L});
+        dailySummaryRepository.upsertSummaries(SUMMARY_DATE);
+        queryCounter.reset();
+
+
+        List<DailySummaryPoint> points;
+        try (Stream<DailySummaryPoint> stream = dailySummaryRepository.streamRange(SUMMARY_DATE, SUMMARY_DATE.plusDays(1), staffed.getId())) {
+            points = stream.toList();
+        }
+
+
+        queryCounter.assertAtMost(1);
+        assertEquals(List.of(
+                new DailySummaryPoint(SUMMARY_DATE, staffed.getId(), "Summary Staffed", 3, 1, 6000.0, 2000.0, 1000.0, 3000.0),
+                new DailySummaryPoint(SUMMARY_DATE.plusDays(1), staffed.getId(), "Summary Staffed", 4, 1, null, null, null, null)
+        ), points);
+    }
+
+    private DailySummary summaryOf(Department department) {
+        return dailySummaryRepository.findBySummaryDateAndDepartment(SUMMARY_DATE, department).orElseThrow();
+    }
+}
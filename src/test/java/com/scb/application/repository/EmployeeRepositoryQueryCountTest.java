@@ -0,0 +1,274 @@
+package com.scb.application.repository;
+
+import com.scb.application.dto.projection.SalaryAdjustmentAggregate;
+import com.scb.application.dto.projection.TableVersion;
+import com.scb.application.dto.response.EmployeeResponse;
+import com.scb.application.entity.Department;
+import com.scb.application.entity.Employee;
+import com.scb.application.enums.SalaryAdjustmentType;
+import com.scb.application.event.EmployeeSnapshot;
+import com.scb.application.mapper.EmployeeMapper;
+import com.scb.application.repository.specification.EmployeeSpecifications;
+import com.scb.application.support.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards the employee read paths against N+1 department loads, bulk inserts against losing JDBC batching
+ * and bulk updates against falling back to one statement per employee.
+ * Projection queries and entity fetch plans are both covered, since write paths still load entities.
+ * Every listing and lookup must run in a constant number of statements however many
+ * distinct departments the result spans.
+ */
+@DataJpaTest
+class EmployeeRepositoryQueryCountTest {
+
+    private static final int DEPARTMENTS = 5;
+    private static final int EMPLOYEES_PER_DEPARTMENT = 4;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final EmployeeMapper employeeMapper = new EmployeeMapper();
+
+    private QueryCounter queryCounter;
+    private Long departmentId;
+    private Long employeeId;
+
+    @BeforeEach
+    void setUp() {
+        // Spread employees over several departments so lazy loading would show up as extra statements
+        for (int d = 0; d < DEPARTMENTS; d++) {
+            Department department = entityManager.persist(new Department("Query Count " + d));
+            departmentId = department.getId();
+            for (int e = 0; e < EMPLOYEES_PER_DEPARTMENT; e++) {
+                Employee employee = new Employee("Employee " + d + e, "employee" + d + e + "@example.com", 1000.0, new Date(), department);
+                employee.setPassword("password");
+                employeeId = entityManager.persist(employee).getId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        queryCounter = new QueryCounter(entityManagerFactory);
+        queryCounter.reset();
+    }
+
+    @Test
+    void findPageAfter_SingleStatement() {
+
+        List<EmployeeResponse> page = employeeRepository.findPageAfter(0L, PageRequest.of(0, 100)).stream()
+                .map(employeeMapper::toResponseDto)
+                .toList();
+
+
+        assertTrue(page.size() >= DEPARTMENTS * EMPLOYEES_PER_DEPARTMENT);
+        queryCounter.assertAtMost(1);
+    }
+
+    @Test
+    void findDepartmentPageAfter_SingleStatement() {
+
+        List<EmployeeResponse> page = employeeRepository.findDepartmentPageAfter(departmentId, 0L, PageRequest.of(0, 100)).stream()
+                .map(employeeMapper::toResponseDto)
+                .toList();
+
+
+        assertEquals(EMPLOYEES_PER_DEPARTMENT, page.size());
+        queryCounter.assertAtMost(1);
+    }
+
+    @Test
+    void findProjectionById_SingleStatement() {
+
+        EmployeeResponse employee = employeeRepository.findProjectionById(employeeId)
+                .map(employeeMapper::toResponseDto)
+                .orElseThrow();
+
+
+        assertEquals(departmentId, employee.getDepartmentId());
+        assertNotNull(employee.getDepartmentName());
+        queryCounter.assertAtMost(1);
+    }
+
+    @Test
+    void findProjectionsByIdIn_SingleStatement() {
+        List<Long> ids = employeeRepository.findAll().stream().map(Employee::getId).toList();
+        queryCounter.reset();
+
+
+        List<EmployeeResponse> employees = employeeRepository.findProjectionsByIdIn(ids).stream()
+                .map(employeeMapper::toResponseDto)
+                .toList();
+
+
+        assertEquals(ids.size(), employees.size());
+        queryCounter.assertAtMost(1);
+    }
+
+    @Test
+    void saveAll_BatchesInserts() {
+        Department department = entityManager.find(Department.class, departmentId);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Employee employee = new Employee("Bulk " + i, "bulk" + i + "@example.com", 1000.0, new Date(), department);
+            employee.setPassword("password");
+            employees.add(employee);
+        }
+        queryCounter.reset();
+
+
+        employeeRepository.saveAll(employees);
+        entityManager.flush();
+
+
+        // Three sequence calls of 50 IDs each and three insert batches, instead of one insert per employee
+        assertTrue(employees.stream().allMatch(employee -> employee.getId() != null));
+        queryCounter.assertAtMost(6);
+    }
+
+    @Test
+    void findSnapshotsByIdIn_SingleStatement() {
+        List<Long> ids = employeeRepository.findAll().stream().map(Employee::getId).toList();
+        queryCounter.reset();
+
+
+        List<EmployeeSnapshot> snapshots = employeeRepository.findSnapshotsByIdIn(ids);
+
+
+        assertEquals(ids.size(), snapshots.size());
+        assertTrue(snapshots.stream().allMatch(snapshot -> snapshot.departmentId() != null));
+        queryCounter.assertAtMost(1);
+    }
+
+    @Test
+    void updateAll_SingleStatement() {
+        List<Employee> employees = employeeRepository.findAll();
+        List<Long> ids = employees.stream().map(Employee::getId).toList();
+        long versions = employees.stream().mapToLong(Employee::getVersion).sum();
+        entityManager.clear();
+        queryCounter.reset();
+
+
+        int updated = employeeRepository.updateAll(ids, new EmployeeChanges(null, null, 2000.0, null, departmentId));
+
+
+        assertEquals(ids.size(), updated);
+        queryCounter.assertAtMost(1);
+        entityManager.clear();
+        List<Employee> reloaded = employeeRepository.findAll();
+        assertTrue(reloaded.stream().allMatch(employee ->
+                employee.getSalary() == 2000.0 && employee.getDepartment().getId().equals(departmentId)));
+        assertEquals(versions + ids.size(), reloaded.stream().mapToLong(Employee::getVersion).sum());
+    }
+
+    @Test
+    void adjustSalaries_SingleStatementPerWindow() {
+        SalaryChange change = new SalaryChange(SalaryAdjustmentType.PERCENTAGE, new BigDecimal("4.5"));
+        SalaryAdjustmentAggregate aggregate = employeeRepository.aggregateSalaryAdjustment(
+                EmployeeSpecifications.inDepartment(departmentId), change);
+        queryCounter.reset();
+
+
+        int updated = employeeRepository.adjustSalaries(
+                EmployeeSpecifications.inDepartment(departmentId), change, aggregate.minId(), aggregate.maxId());
+
+
+        assertEquals(EMPLOYEES_PER_DEPARTMENT, updated);
+        assertEquals(EMPLOYEES_PER_DEPARTMENT, aggregate.count());
+        assertEquals(4000.0, aggregate.totalBefore());
+        assertEquals(4180.0, aggregate.totalAfter());
+        queryCounter.assertAtMost(1);
+        entityManager.clear();
+        assertTrue(employeeRepository.findAll().stream()
+                .filter(employee -> employee.getDepartment().getId().equals(departmentId))
+                .allMatch(employee -> employee.getSalary() == 1045.0 && employee.getVersion() == 1L));
+    }
+
+    @Test
+    void findSalaryAdjustmentWindowEnd_WalksMatchedIds() {
+        List<Long> ids = employeeRepository.findAll().stream()
+                .filter(employee -> employee.getDepartment().getId().equals(departmentId))
+                .map(Employee::getId)
+                .sorted()
+                .toList();
+        queryCounter.reset();
+
+
+        Long windowEnd = employeeRepository.findSalaryAdjustmentWindowEnd(
+                EmployeeSpecifications.inDepartment(departmentId), ids.get(0) - 1, 3);
+        Long lastWindowEnd = employeeRepository.findSalaryAdjustmentWindowEnd(
+                EmployeeSpecifications.inDepartment(departmentId), windowEnd, 3);
+
+
+        assertEquals(ids.get(2), windowEnd);
+        assertNull(lastWindowEnd);
+        queryCounter.assertAtMost(2);
+    }
+
+    @Test
+    void findAll_SingleStatement() {
+
+        List<EmployeeResponse> employees = employeeRepository.findAll().stream()
+                .map(employeeMapper::toResponseDto)
+                .toList();
+
+
+        assertTrue(employees.size() >= DEPARTMENTS * EMPLOYEES_PER_DEPARTMENT);
+        queryCounter.assertAtMost(1);
+    }
+
+    @Test
+    void findById_SingleStatement() {
+
+        EmployeeResponse employee = employeeRepository.findById(employeeId)
+                .map(employeeMapper::toResponseDto)
+                .orElseThrow();
+
+
+        assertEquals(departmentId, employee.getDepartmentId());
+        queryCounter.assertAtMost(1);
+    }
+
+    @Test
+    void findTableVersion_ChangesOnEveryWrite() {
+        TableVersion initial = employeeRepository.findTableVersion();
+        queryCounter.assertAtMost(1);
+
+        // Plain SQL, as another instance or a migration would write it
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE employees SET salary = salary + 1 WHERE id = :id")
+                .setParameter("id", employeeId)
+                .executeUpdate();
+        TableVersion updated = employeeRepository.findTableVersion();
+
+        employeeRepository.deleteById(employeeId);
+        entityManager.flush();
+        TableVersion deleted = employeeRepository.findTableVersion();
+
+
+        assertEquals(initial.count(), updated.count());
+        assertTrue(updated.lastChangeVersion() > initial.lastChangeVersion());
+        assertEquals(updated.count() - 1, deleted.count());
+        assertNotEquals(initial.toETag(), updated.toETag());
+        assertNotEquals(updated.toETag(), deleted.toETag());
+    }
+}
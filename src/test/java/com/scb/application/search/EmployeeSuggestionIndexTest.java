@@ -0,0 +1,162 @@
+package com.scb.application.search;
+
+import com.scb.application.dto.projection.EmployeeContactProjection;
+import com.scb.application.dto.response.EmployeeSuggestionResponse;
+import com.scb.application.event.EmployeeChangedEvent;
+import com.scb.application.event.EmployeeSnapshot;
+import com.scb.application.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeSuggestionIndexTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private EmployeeSuggestionIndex employeeSuggestionIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(employeeRepository.streamAllContacts()).thenReturn(Stream.of(
+                new EmployeeContactProjection(1L, "Ahmed Mohsen", "Ahmed@test.com"),
+                new EmployeeContactProjection(2L, "Ali Taha", "AlyTaha@test.com"),
+                new EmployeeContactProjection(3L, "Mariam Mohamed", "MariamMohamed@test.com"),
+                new EmployeeContactProjection(4L, "Manar Elsayed", "MElsayed@test.com")
+        ));
+        employeeSuggestionIndex.rebuild();
+    }
+
+    @Test
+    void rebuild_IndexesEveryEmployee() {
+        assertEquals(4, employeeSuggestionIndex.size());
+        verify(employeeRepository).streamAllContacts();
+    }
+
+    @Test
+    void suggest_ShortQueryMatchesWordPrefixes() {
+
+        List<EmployeeSuggestionResponse> result = employeeSuggestionIndex.suggest("ma", 10);
+
+        assertEquals(List.of(4L, 3L), ids(result));
+    }
+
+    @Test
+    void suggest_PrefixRanksAboveSubstring() {
+
+        List<EmployeeSuggestionResponse> result = employeeSuggestionIndex.suggest("moh", 10);
+
+        // "Mohsen" and "Mohamed" start a word, while nothing starts with "moh" outright
+        assertEquals(List.of(1L, 3L), ids(result));
+    }
+
+    @Test
+    void suggest_MatchesEmail() {
+
+        List<EmployeeSuggestionResponse> result = employeeSuggestionIndex.suggest("alytaha@", 10);
+
+        assertEquals(2L, result.get(0).getId());
+        assertEquals("Ali Taha", result.get(0).getName());
+    }
+
+    @Test
+    void suggest_ToleratesTypos() {
+
+        List<EmployeeSuggestionResponse> result = employeeSuggestionIndex.suggest("mariem", 10);
+
+        assertEquals(3L, result.get(0).getId());
+    }
+
+    @Test
+    void suggest_RespectsLimit() {
+
+        List<EmployeeSuggestionResponse> result = employeeSuggestionIndex.suggest("test.com", 2);
+
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    void suggest_RareGramsFoundAmongCommonOnes() {
+        // Every email shares "tes", "est", "@te", ".co" and "com" with the query's common trigrams
+        for (long id = 10; id < 1010; id++) {
+            employeeSuggestionIndex.put(id, "Employee " + id, "employee" + id + "@test.com");
+        }
+        employeeSuggestionIndex.remove(500L);
+
+
+        List<EmployeeSuggestionResponse> result = employeeSuggestionIndex.suggest("mohamed@test.com", 3);
+
+
+        assertEquals(3L, result.get(0).getId());
+        assertEquals(3, result.size());
+        assertTrue(employeeSuggestionIndex.suggest("employee500@", 10).stream().noneMatch(match -> match.getId() == 500L));
+        assertEquals(1003, employeeSuggestionIndex.size());
+    }
+
+    @Test
+    void suggest_CommonGramsStopAtLimitInRankOrder() {
+        // Every email shares "exa", "com" and the other trigrams of the domain
+        for (long id = 10; id < 3010; id++) {
+            employeeSuggestionIndex.put(id, "Employee " + id, "employee" + id + "@example.com");
+        }
+        employeeSuggestionIndex.put(5000L, "Comfort Ali", "cali@corp.org");
+
+
+        List<EmployeeSuggestionResponse> shortQuery = employeeSuggestionIndex.suggest("co", 3);
+        List<EmployeeSuggestionResponse> wordPrefix = employeeSuggestionIndex.suggest("com", 3);
+        List<EmployeeSuggestionResponse> domain = employeeSuggestionIndex.suggest("example.com", 2);
+        List<EmployeeSuggestionResponse> typo = employeeSuggestionIndex.suggest("comfrt ali", 3);
+
+
+        assertEquals(List.of(5000L, 2L, 10L), shortQuery.stream().map(EmployeeSuggestionResponse::getId).toList());
+        assertEquals(List.of(5000L, 2L, 10L), wordPrefix.stream().map(EmployeeSuggestionResponse::getId).toList());
+        assertEquals(List.of(10L, 11L), domain.stream().map(EmployeeSuggestionResponse::getId).toList());
+        assertEquals(5000L, typo.get(0).getId());
+    }
+
+    @Test
+    void suggest_NoMatch() {
+
+        assertTrue(employeeSuggestionIndex.suggest("zzz", 10).isEmpty());
+        assertTrue(employeeSuggestionIndex.suggest("q", 10).isEmpty());
+    }
+
+    @Test
+    void onEmployeeChanged_AppliesUpdatesAndDeletes() {
+        EmployeeSnapshot before = new EmployeeSnapshot(2L, "Ali Taha", "AlyTaha@test.com", "ADMIN", 2L);
+        EmployeeSnapshot after = new EmployeeSnapshot(2L, "Ali Hassan", "AliHassan@test.com", "ADMIN", 2L);
+
+        employeeSuggestionIndex.onEmployeeChanged(EmployeeChangedEvent.updated(before, after));
+
+        assertTrue(employeeSuggestionIndex.suggest("taha", 10).isEmpty());
+        assertEquals(List.of(2L), ids(employeeSuggestionIndex.suggest("hassan", 10)));
+
+
+        employeeSuggestionIndex.onEmployeeChanged(EmployeeChangedEvent.deleted(after));
+
+        assertTrue(employeeSuggestionIndex.suggest("hassan", 10).isEmpty());
+        assertEquals(3, employeeSuggestionIndex.size());
+
+
+        employeeSuggestionIndex.onEmployeeChanged(EmployeeChangedEvent.created(
+                new EmployeeSnapshot(5L, "Omar Said", "OSaid@test.com", "USER", 1L)));
+
+        assertEquals(5L, employeeSuggestionIndex.suggest("omar", 10).get(0).getId());
+        assertEquals(4, employeeSuggestionIndex.size());
+    }
+
+    private static List<Long> ids(List<EmployeeSuggestionResponse> suggestions) {
+        return suggestions.stream().map(EmployeeSuggestionResponse::getId).toList();
+    }
+}
@@ -0,0 +1,79 @@
+package com.scb.application.security;
+
+import com.scb.application.dto.projection.EmployeeCredentials;
+import com.scb.application.event.EmployeeChangedEvent;
+import com.scb.application.event.EmployeeSnapshot;
+import com.scb.application.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Test
+    void loadUserByUsername_UsesCredentialsProjection() {
+        
+        when(employeeRepository.findCredentialsByEmail("Ahmed@test.com"))
+                .thenReturn(Optional.of(new EmployeeCredentials(1L, "Ahmed@test.com", "hash", "ADMIN", 3L)));
+
+
+        UserDetails first = customUserDetailsService.loadUserByUsername("Ahmed@test.com");
+        UserDetails second = customUserDetailsService.loadUserByUsername("Ahmed@test.com");
+
+
+        assertEquals("Ahmed@test.com", first.getUsername());
+        assertEquals("hash", first.getPassword());
+        assertEquals("ADMIN", first.getAuthorities().iterator().next().getAuthority());
+        assertEquals(1L, ((EmployeePrincipal) first).getId());
+        assertEquals(3L, ((EmployeePrincipal) first).getDepartmentId());
+        assertNotSame(first, second);
+        verify(employeeRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    void loadUserByUsername_NotFound() {
+        
+        when(employeeRepository.findCredentialsByEmail(anyString())).thenReturn(Optional.empty());
+
+
+        assertThrows(UsernameNotFoundException.class, () -> customUserDetailsService.loadUserByUsername("missing@test.com"));
+    }
+
+    @Test
+    void changesCredentials_OnlyForEmailRoleOrDeletion() {
+        EmployeeSnapshot employee = new EmployeeSnapshot(1L, "Ahmed", "Ahmed@test.com", "USER", 1L);
+
+        assertTrue(EmployeeChangedEvent.deleted(employee).changesCredentials());
+        assertTrue(EmployeeChangedEvent.updated(employee, new EmployeeSnapshot(1L, "Ahmed", "Ahmed2@test.com", "USER", 1L)).changesCredentials());
+        assertTrue(EmployeeChangedEvent.updated(employee, new EmployeeSnapshot(1L, "Ahmed", "Ahmed@test.com", "ADMIN", 1L)).changesCredentials());
+        assertFalse(EmployeeChangedEvent.updated(employee, new EmployeeSnapshot(1L, "Ahmed M", "Ahmed@test.com", "USER", 2L)).changesCredentials());
+        assertFalse(EmployeeChangedEvent.created(employee).changesCredentials());
+    }
+
+    @Test
+    void changesDepartment_OnlyForTransfers() {
+        EmployeeSnapshot employee = new EmployeeSnapshot(1L, "Ahmed", "Ahmed@test.com", "USER", 1L);
+
+        assertTrue(EmployeeChangedEvent.updated(employee, new EmployeeSnapshot(1L, "Ahmed", "Ahmed@test.com", "USER", 2L)).changesDepartment());
+        assertFalse(EmployeeChangedEvent.updated(employee, new EmployeeSnapshot(1L, "Ahmed M", "Ahmed@test.com", "ADMIN", 1L)).changesDepartment());
+        assertFalse(EmployeeChangedEvent.deleted(employee).changesDepartment());
+        assertFalse(EmployeeChangedEvent.created(employee).changesDepartment());
+    }
+}
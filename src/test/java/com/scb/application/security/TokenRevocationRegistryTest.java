@@ -0,0 +1,65 @@
+package com.scb.application.security;
+
+import com.scb.application.event.EmployeeChangedEvent;
+import com.scb.application.event.EmployeeSnapshot;
+import com.scb.application.utils.VerifiedToken;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationRegistryTest {
+
+    private static final EmployeeSnapshot EMPLOYEE = new EmployeeSnapshot(1L, "Ahmed", "Ahmed@test.com", "USER", 1L);
+
+    private final TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry(3_600_000);
+
+    @Test
+    void isRevoked_OnlyTokensIssuedBeforeRevocation() {
+        VerifiedToken old = token("Ahmed@test.com", Instant.now().minusSeconds(60));
+        VerifiedToken other = token("Ali@test.com", Instant.now().minusSeconds(60));
+
+        tokenRevocationRegistry.revoke("Ahmed@test.com");
+
+        assertTrue(tokenRevocationRegistry.isRevoked(old));
+        assertFalse(tokenRevocationRegistry.isRevoked(other));
+        assertFalse(tokenRevocationRegistry.isRevoked(token("Ahmed@test.com", Instant.now().plusSeconds(1))));
+    }
+
+    @Test
+    void onEmployeeChanged_RoleChangeRevokes() {
+        VerifiedToken old = token("Ahmed@test.com", Instant.now().minusSeconds(60));
+        EmployeeSnapshot promoted = new EmployeeSnapshot(1L, "Ahmed", "Ahmed@test.com", "ADMIN", 1L);
+
+        tokenRevocationRegistry.onEmployeeChanged(EmployeeChangedEvent.updated(EMPLOYEE, promoted));
+
+        assertTrue(tokenRevocationRegistry.isRevoked(old));
+    }
+
+    @Test
+    void onEmployeeChanged_DeleteRevokes() {
+        VerifiedToken old = token("Ahmed@test.com", Instant.now().minusSeconds(60));
+
+        tokenRevocationRegistry.onEmployeeChanged(EmployeeChangedEvent.deleted(EMPLOYEE));
+
+        assertTrue(tokenRevocationRegistry.isRevoked(old));
+    }
+
+    @Test
+    void onEmployeeChanged_OtherChangesKeepTokens() {
+        VerifiedToken old = token("Ahmed@test.com", Instant.now().minusSeconds(60));
+        EmployeeSnapshot transferred = new EmployeeSnapshot(1L, "Ahmed M", "Ahmed@test.com", "USER", 2L);
+
+        tokenRevocationRegistry.onEmployeeChanged(EmployeeChangedEvent.updated(EMPLOYEE, transferred));
+        tokenRevocationRegistry.onEmployeeChanged(EmployeeChangedEvent.created(EMPLOYEE));
+
+        assertFalse(tokenRevocationRegistry.isRevoked(old));
+    }
+
+    private static VerifiedToken token(String subject, Instant issuedAt) {
+        Instant issued = issuedAt.truncatedTo(ChronoUnit.SECONDS);
+        return new VerifiedToken(subject, "USER", 1L, 1L, issued, issued.plusSeconds(3600));
+    }
+}
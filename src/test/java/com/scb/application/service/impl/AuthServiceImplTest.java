@@ -2,28 +2,28 @@ package com.scb.application.service.impl;
 
 import com.scb.application.dto.request.LoginRequest;
 import com.scb.application.dto.response.AuthResponse;
-import com.scb.application.entity.Employee;
 import com.scb.application.enums.Role;
 import com.scb.application.exception.ApiException;
-import com.scb.application.repository.EmployeeRepository;
+import com.scb.application.exception.ErrorCode;
+import com.scb.application.security.EmployeePrincipal;
 import com.scb.application.utils.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.User;
 
-import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,17 +35,14 @@ class AuthServiceImplTest {
     @Mock
     private JwtService jwtService;
 
-    @Mock
-    private EmployeeRepository employeeRepository;
-
     @Mock
     private Authentication authentication;
 
-    @InjectMocks
+    private MeterRegistry meterRegistry;
     private AuthServiceImpl authService;
 
     private LoginRequest loginRequest;
-    private Employee employee;
+    private EmployeePrincipal employee;
     private String jwtToken;
 
     @BeforeEach
@@ -55,14 +52,13 @@ class AuthServiceImplTest {
         loginRequest.setEmail("john.doe@example.com");
         loginRequest.setPassword("password");
 
-        employee = new Employee();
-        employee.setId(1L);
-        employee.setName("John Doe");
-        employee.setEmail("john.doe@example.com");
-        employee.setPassword("encodedPassword");
-        employee.setRole(Role.USER.name());
+        employee = new EmployeePrincipal(1L, "john.doe@example.com", "encodedPassword", Role.USER.name(), 2L);
 
         jwtToken = "jwt.token.string";
+
+        // Logins run on the calling thread, so the futures are complete when login returns
+        meterRegistry = new SimpleMeterRegistry();
+        authService = new AuthServiceImpl(authenticationManager, jwtService, Runnable::run, meterRegistry, 2);
     }
 
     @Test
@@ -71,11 +67,11 @@ class AuthServiceImplTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(authentication);
         when(authentication.isAuthenticated()).thenReturn(true);
-        when(employeeRepository.findByEmail(anyString())).thenReturn(Optional.of(employee));
-        when(jwtService.generateToken(any(User.class), anyString())).thenReturn(jwtToken);
+        when(authentication.getPrincipal()).thenReturn(employee);
+        when(jwtService.generateToken(employee)).thenReturn(jwtToken);
 
    
-        AuthResponse result = authService.login(loginRequest);
+        AuthResponse result = authService.login(loginRequest).join();
 
 
         assertNotNull(result);
@@ -84,8 +80,9 @@ class AuthServiceImplTest {
         assertEquals(employee.getRole(), result.getRole());
 
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(employeeRepository).findByEmail(loginRequest.getEmail());
-        verify(jwtService).generateToken(any(User.class), eq(employee.getRole()));
+        verify(jwtService).generateToken(employee);
+        assertEquals(1, meterRegistry.get("login.queue").timer().count());
+        assertEquals(1, meterRegistry.get("login.service").timer().count());
     }
 
     @Test
@@ -96,15 +93,15 @@ class AuthServiceImplTest {
         when(authentication.isAuthenticated()).thenReturn(false);
 
 
-        ApiException exception = assertThrows(ApiException.class, () -> {
-            authService.login(loginRequest);
-        });
+        Throwable exception = assertThrows(CompletionException.class, () -> {
+            authService.login(loginRequest).join();
+        }).getCause();
 
+        assertInstanceOf(ApiException.class, exception);
         assertEquals("Authentication failed", exception.getMessage());
 
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(employeeRepository, never()).findByEmail(anyString());
-        verify(jwtService, never()).generateToken(any(), anyString());
+        verify(jwtService, never()).generateToken(any());
     }
 
     @Test
@@ -114,34 +111,33 @@ class AuthServiceImplTest {
                 .thenThrow(new BadCredentialsException("Bad credentials"));
 
 
-        BadCredentialsException exception = assertThrows(BadCredentialsException.class, () -> {
-            authService.login(loginRequest);
-        });
+        Throwable exception = assertThrows(CompletionException.class, () -> {
+            authService.login(loginRequest).join();
+        }).getCause();
 
+        assertInstanceOf(BadCredentialsException.class, exception);
         assertEquals("Bad credentials", exception.getMessage());
 
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(employeeRepository, never()).findByEmail(anyString());
-        verify(jwtService, never()).generateToken(any(), anyString());
+        verify(jwtService, never()).generateToken(any());
     }
 
     @Test
-    void login_UserNotFound() {
-        
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
-        when(authentication.isAuthenticated()).thenReturn(true);
-        when(employeeRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+    void login_ExecutorSaturated() {
+        AuthServiceImpl saturated = new AuthServiceImpl(authenticationManager, jwtService, command -> {
+            throw new RejectedExecutionException("Queue full");
+        }, meterRegistry, 2);
 
 
         ApiException exception = assertThrows(ApiException.class, () -> {
-            authService.login(loginRequest);
+            saturated.login(loginRequest);
         });
 
-        assertEquals("User not found with email: " + loginRequest.getEmail(), exception.getMessage());
 
-        verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(employeeRepository).findByEmail(loginRequest.getEmail());
-        verify(jwtService, never()).generateToken(any(), anyString());
+        assertEquals(503, exception.getStatusCode());
+        assertEquals(ErrorCode.SERVICE_UNAVAILABLE, exception.getErrorCode());
+        assertEquals(2L, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("login.rejected").counter().count());
+        verifyNoInteractions(authenticationManager);
     }
 }
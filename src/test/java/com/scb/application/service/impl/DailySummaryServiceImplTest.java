@@ -1,10 +1,12 @@
 package com.scb.application.service.impl;
 
+import com.scb.application.dto.projection.DailySummaryPoint;
+import com.scb.application.dto.projection.TableVersion;
 import com.scb.application.entity.DailySummary;
 import com.scb.application.entity.Department;
+import com.scb.application.exception.ApiException;
 import com.scb.application.repository.DailySummaryRepository;
 import com.scb.application.repository.DepartmentRepository;
-import com.scb.application.repository.EmployeeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,11 +14,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,9 +36,6 @@ class DailySummaryServiceImplTest {
     @Mock
     private DepartmentRepository departmentRepository;
 
-    @Mock
-    private EmployeeRepository employeeRepository;
-
     @InjectMocks
     private DailySummaryServiceImpl dailySummaryService;
 
@@ -42,7 +44,6 @@ class DailySummaryServiceImplTest {
     private Department department2;
     private DailySummary dailySummary1;
     private DailySummary dailySummary2;
-    private List<Object[]> employeeCountsByDepartment;
 
     @BeforeEach
     void setUp() {
@@ -59,94 +60,22 @@ class DailySummaryServiceImplTest {
         
         dailySummary1 = new DailySummary(summaryDate, department1, 5);
         dailySummary2 = new DailySummary(summaryDate, department2, 3);
-        
-        // Setup employee counts by department
-        employeeCountsByDepartment = new ArrayList<>();
-        employeeCountsByDepartment.add(new Object[]{1L, 5L});
-        employeeCountsByDepartment.add(new Object[]{2L, 3L});
     }
 
     @Test
-    void generateDailySummary_NewSummaries() {
-        
-        List<Department> departments = Arrays.asList(department1, department2);
-        
-        when(departmentRepository.findAll()).thenReturn(departments);
-        when(employeeRepository.countEmployeesByDepartment()).thenReturn(employeeCountsByDepartment);
-        when(dailySummaryRepository.findBySummaryDateAndDepartment(any(LocalDate.class), any(Department.class)))
-            .thenReturn(Optional.empty());
-        when(dailySummaryRepository.save(any(DailySummary.class)))
-            .thenAnswer(invocation -> invocation.getArgument(0));
-
-   
-        List<DailySummary> result = dailySummaryService.generateDailySummary(summaryDate);
-
-
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals(5, result.get(0).getEmployeeCount());
-        assertEquals(3, result.get(1).getEmployeeCount());
-        
-        verify(departmentRepository).findAll();
-        verify(employeeRepository).countEmployeesByDepartment();
-        verify(dailySummaryRepository, times(2)).findBySummaryDateAndDepartment(any(LocalDate.class), any(Department.class));
-        verify(dailySummaryRepository, times(2)).save(any(DailySummary.class));
-    }
-
-    @Test
-    void generateDailySummary_UpdateExistingSummaries() {
-        
-        List<Department> departments = Arrays.asList(department1, department2);
-        
-        when(departmentRepository.findAll()).thenReturn(departments);
-        when(employeeRepository.countEmployeesByDepartment()).thenReturn(employeeCountsByDepartment);
-        when(dailySummaryRepository.findBySummaryDateAndDepartment(eq(summaryDate), eq(department1)))
-            .thenReturn(Optional.of(dailySummary1));
-        when(dailySummaryRepository.findBySummaryDateAndDepartment(eq(summaryDate), eq(department2)))
-            .thenReturn(Optional.of(dailySummary2));
-        when(dailySummaryRepository.save(any(DailySummary.class)))
-            .thenAnswer(invocation -> invocation.getArgument(0));
-
-   
-        List<DailySummary> result = dailySummaryService.generateDailySummary(summaryDate);
-
-
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals(5, result.get(0).getEmployeeCount());
-        assertEquals(3, result.get(1).getEmployeeCount());
-        
-        verify(departmentRepository).findAll();
-        verify(employeeRepository).countEmployeesByDepartment();
-        verify(dailySummaryRepository, times(2)).findBySummaryDateAndDepartment(any(LocalDate.class), any(Department.class));
-        verify(dailySummaryRepository, times(2)).save(any(DailySummary.class));
-    }
-
-    @Test
-    void generateDailySummary_MixedNewAndExistingSummaries() {
-        
-        List<Department> departments = Arrays.asList(department1, department2);
+    void generateDailySummary_SingleUpsert() {
         
-        when(departmentRepository.findAll()).thenReturn(departments);
-        when(employeeRepository.countEmployeesByDepartment()).thenReturn(employeeCountsByDepartment);
-        when(dailySummaryRepository.findBySummaryDateAndDepartment(eq(summaryDate), eq(department1)))
-            .thenReturn(Optional.of(dailySummary1));
-        when(dailySummaryRepository.findBySummaryDateAndDepartment(eq(summaryDate), eq(department2)))
-            .thenReturn(Optional.empty());
-        when(dailySummaryRepository.save(any(DailySummary.class)))
-            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(dailySummaryRepository.upsertSummaries(summaryDate)).thenReturn(2);
 
    
-        List<DailySummary> result = dailySummaryService.generateDailySummary(summaryDate);
+        int result = dailySummaryService.generateDailySummary(summaryDate);
 
 
-        assertNotNull(result);
-        assertEquals(2, result.size());
+        assertEquals(2, result);
         
-        verify(departmentRepository).findAll();
-        verify(employeeRepository).countEmployeesByDepartment();
-        verify(dailySummaryRepository, times(2)).findBySummaryDateAndDepartment(any(LocalDate.class), any(Department.class));
-        verify(dailySummaryRepository, times(2)).save(any(DailySummary.class));
+        verify(dailySummaryRepository, times(1)).upsertSummaries(summaryDate);
+        verify(dailySummaryRepository, never()).findBySummaryDateAndDepartment(any(LocalDate.class), any(Department.class));
+        verify(dailySummaryRepository, never()).save(any(DailySummary.class));
     }
 
     @Test
@@ -197,4 +126,67 @@ class DailySummaryServiceImplTest {
         
         verify(dailySummaryRepository).findBySummaryDateAndDepartment(summaryDate, department1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void writeSummaries_OneSeriesPerDepartment() throws IOException {
+        
+        when(dailySummaryRepository.streamRange(summaryDate, summaryDate.plusDays(1), null)).thenReturn(Stream.of(
+                new DailySummaryPoint(summaryDate, 1L, "IT", 5, 0, 5000.0, 1000.0, 500.0, 1500.0),
+                new DailySummaryPoint(summaryDate.plusDays(1), 1L, "IT", 6, 1, 6000.0, 1000.0, 500.0, 1500.0),
+                new DailySummaryPoint(summaryDate, 2L, "HR", 3, 0, null, null, null, null)
+        ));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+   
+        long result = dailySummaryService.writeSummaries(summaryDate, summaryDate.plusDays(1), null, output);
+
+
+        assertEquals(3, result);
+        assertEquals("{\"from\":\"2023-01-01\",\"to\":\"2023-01-02\",\"series\":["
+                + "{\"departmentId\":1,\"departmentName\":\"IT\",\"points\":["
+                + "{\"date\":\"2023-01-01\",\"employeeCount\":5,\"newHires\":0,\"totalSalary\":5000.0,"
+                + "\"averageSalary\":1000.0,\"minSalary\":500.0,\"maxSalary\":1500.0},"
+                + "{\"date\":\"2023-01-02\",\"employeeCount\":6,\"newHires\":1,\"totalSalary\":6000.0,"
+                + "\"averageSalary\":1000.0,\"minSalary\":500.0,\"maxSalary\":1500.0}]},"
+                + "{\"departmentId\":2,\"departmentName\":\"HR\",\"points\":["
+                + "{\"date\":\"2023-01-01\",\"employeeCount\":3,\"newHires\":0,\"totalSalary\":null,"
+                + "\"averageSalary\":null,\"minSalary\":null,\"maxSalary\":null}]}]}", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeSummaries_EmptyRange() throws IOException {
+        
+        when(dailySummaryRepository.streamRange(summaryDate, summaryDate, 9L)).thenReturn(Stream.empty());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+   
+        long result = dailySummaryService.writeSummaries(summaryDate, summaryDate, 9L, output);
+
+
+        assertEquals(0, result);
+        assertEquals("{\"from\":\"2023-01-01\",\"to\":\"2023-01-01\",\"series\":[]}", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void checkSummaryRange_FutureDatesRejected() {
+
+        ApiException exception = assertThrows(ApiException.class, () ->
+                dailySummaryService.checkSummaryRange(LocalDate.now(), LocalDate.now().plusDays(1)));
+
+        assertEquals(400, exception.getStatusCode());
+    }
+
+    @Test
+    void getSummariesETag_CoversSummariesAndDepartments() {
+        
+        when(dailySummaryRepository.findTableVersion()).thenReturn(new TableVersion(30L, 81L));
+        when(departmentRepository.findTableVersion()).thenReturn(new TableVersion(4L, 12L));
+
+   
+        String eTag = dailySummaryService.getSummariesETag();
+
+
+        assertEquals("30.81-4.12", eTag);
+        verify(dailySummaryRepository, never()).streamRange(any(), any(), any());
+    }
+}
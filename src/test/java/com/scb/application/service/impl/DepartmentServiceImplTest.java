@@ -1,18 +1,20 @@
 package com.scb.application.service.impl;
 
+import com.scb.application.dto.projection.TableVersion;
 import com.scb.application.dto.request.DepartmentRequest;
 import com.scb.application.dto.response.DepartmentResponse;
 import com.scb.application.entity.Department;
 import com.scb.application.exception.ApiException;
+import com.scb.application.headcount.DepartmentHeadcountRegistry;
 import com.scb.application.mapper.DepartmentMapper;
 import com.scb.application.repository.DepartmentRepository;
-import com.scb.application.repository.EmployeeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Arrays;
 import java.util.List;
@@ -30,7 +32,7 @@ class DepartmentServiceImplTest {
     private DepartmentRepository departmentRepository;
 
     @Mock
-    private EmployeeRepository employeeRepository;
+    private DepartmentHeadcountRegistry headcountRegistry;
 
     @Mock
     private DepartmentMapper departmentMapper;
@@ -121,6 +123,18 @@ class DepartmentServiceImplTest {
         verify(departmentMapper, times(1)).toResponseDto(any(Department.class));
     }
 
+    @Test
+    void getDepartmentsETag_ComesFromTableVersion() {
+        when(departmentRepository.findTableVersion()).thenReturn(new TableVersion(4L, 10L));
+
+
+        String eTag = departmentService.getDepartmentsETag();
+
+
+        assertEquals("4.10", eTag);
+        verify(departmentRepository, never()).findAll();
+    }
+
     @Test
     void getDepartmentById_Success() {
         
@@ -232,14 +246,14 @@ class DepartmentServiceImplTest {
     void deleteDepartment_Success() {
         
         when(departmentRepository.findById(anyLong())).thenReturn(Optional.of(department));
-        when(employeeRepository.countByDepartment(any(Department.class))).thenReturn(0);
+        when(headcountRegistry.reconcile(department)).thenReturn(0L);
 
    
         departmentService.deleteDepartment(1L);
 
 
         verify(departmentRepository).findById(1L);
-        verify(employeeRepository).countByDepartment(department);
+        verify(headcountRegistry).reconcile(department);
         verify(departmentRepository).deleteById(1L);
     }
 
@@ -256,7 +270,7 @@ class DepartmentServiceImplTest {
         assertEquals("Department with ID 1 not found", exception.getMessage());
 
         verify(departmentRepository).findById(1L);
-        verify(employeeRepository, never()).countByDepartment(any());
+        verify(headcountRegistry, never()).reconcile(any());
         verify(departmentRepository, never()).deleteById(anyLong());
     }
 
@@ -264,7 +278,7 @@ class DepartmentServiceImplTest {
     void deleteDepartment_HasEmployees() {
         
         when(departmentRepository.findById(anyLong())).thenReturn(Optional.of(department));
-        when(employeeRepository.countByDepartment(any(Department.class))).thenReturn(5);
+        when(headcountRegistry.reconcile(department)).thenReturn(5L);
 
 
         ApiException exception = assertThrows(ApiException.class, () -> {
@@ -274,7 +288,23 @@ class DepartmentServiceImplTest {
         assertEquals("Cannot delete department because it has employees assigned to it", exception.getMessage());
 
         verify(departmentRepository).findById(1L);
-        verify(employeeRepository).countByDepartment(department);
+        verify(headcountRegistry).reconcile(department);
         verify(departmentRepository, never()).deleteById(anyLong());
     }
+
+    @Test
+    void deleteDepartment_EmployeeAssignedMeanwhile() {
+        
+        when(departmentRepository.findById(anyLong())).thenReturn(Optional.of(department));
+        when(headcountRegistry.reconcile(department)).thenReturn(0L);
+        doThrow(new DataIntegrityViolationException("foreign key")).when(departmentRepository).flush();
+
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            departmentService.deleteDepartment(1L);
+        });
+
+        assertEquals("Cannot delete department because it has employees assigned to it", exception.getMessage());
+        assertEquals(400, exception.getStatusCode());
+    }
 }
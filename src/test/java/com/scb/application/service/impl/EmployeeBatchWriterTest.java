@@ -0,0 +1,72 @@
+package com.scb.application.service.impl;
+
+import com.scb.application.entity.Department;
+import com.scb.application.entity.Employee;
+import com.scb.application.event.EmployeeChangedEvent;
+import com.scb.application.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeBatchWriterTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private EmployeeBatchWriter employeeBatchWriter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(employeeBatchWriter, "entityManager", entityManager);
+    }
+
+    @Test
+    void insert_FlushesAndClearsInOneTransaction() {
+        Department department = new Department("IT");
+        List<Employee> employees = List.of(
+                new Employee("A", "a@example.com", 1000.0, new Date(), department),
+                new Employee("B", "b@example.com", 1000.0, new Date(), department));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+
+        employeeBatchWriter.insert(employees);
+
+
+        InOrder inOrder = inOrder(employeeRepository, entityManager);
+        inOrder.verify(employeeRepository).saveAll(employees);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(entityManager).clear();
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+        verify(eventPublisher, times(2)).publishEvent(any(EmployeeChangedEvent.class));
+    }
+}
@@ -0,0 +1,391 @@
+package com.scb.application.service.impl;
+
+import com.scb.application.dto.projection.EmployeeContactProjection;
+import com.scb.application.dto.projection.SalaryAdjustmentAggregate;
+import com.scb.application.dto.request.EmployeeBulkCreateRequest;
+import com.scb.application.dto.request.EmployeeBulkDeleteRequest;
+import com.scb.application.dto.request.EmployeeBulkUpdateRequest;
+import com.scb.application.dto.request.EmployeePatchRequest;
+import com.scb.application.dto.request.EmployeeRequest;
+import com.scb.application.dto.request.SalaryAdjustmentRequest;
+import com.scb.application.dto.response.EmployeeBulkCreateResponse;
+import com.scb.application.dto.response.EmployeeBulkOperationResponse;
+import com.scb.application.dto.response.EmployeeBulkOutcome;
+import com.scb.application.dto.response.SalaryAdjustmentResponse;
+import com.scb.application.entity.Department;
+import com.scb.application.entity.Employee;
+import com.scb.application.enums.BulkOutcomeStatus;
+import com.scb.application.enums.SalaryAdjustmentType;
+import com.scb.application.event.EmployeeChangedEvent;
+import com.scb.application.event.EmployeeSnapshot;
+import com.scb.application.exception.ApiException;
+import com.scb.application.mapper.EmployeeMapper;
+import com.scb.application.repository.DepartmentRepository;
+import com.scb.application.repository.EmployeeChanges;
+import com.scb.application.repository.SalaryChange;
+import com.scb.application.repository.EmployeeRepository;
+import com.scb.application.security.EmployeePrincipal;
+import com.scb.application.service.PasswordHashingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeBulkServiceImplTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private EmployeeBatchWriter employeeBatchWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private EmployeeBulkServiceImpl employeeBulkService;
+
+    private Department department;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(employeeBulkService, "maxSize", 5);
+        ReflectionTestUtils.setField(employeeBulkService, "chunkSize", 2);
+        ReflectionTestUtils.setField(employeeBulkService, "adjustmentWindowSize", 10);
+
+        department = new Department("IT");
+        department.setId(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void createEmployees_InsertsInChunks() {
+        AtomicLong nextId = new AtomicLong(100);
+        when(employeeRepository.findExistingEmails(anyList())).thenReturn(List.of());
+        when(departmentRepository.findAllById(Set.of(1L))).thenReturn(List.of(department));
+        when(passwordHashingService.encodeDefaultPasswords(anyInt()))
+                .thenAnswer(invocation -> Collections.nCopies(invocation.<Integer>getArgument(0), "hashed"));
+        when(employeeMapper.toEntity(any(EmployeeRequest.class), eq(department), eq("hashed"))).thenAnswer(invocation -> {
+            EmployeeRequest request = invocation.getArgument(0);
+            return new Employee(request.getName(), request.getEmail(), request.getSalary(), new Date(), department);
+        });
+        doAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            employees.forEach(employee -> employee.setId(nextId.getAndIncrement()));
+            return null;
+        }).when(employeeBatchWriter).insert(anyList());
+
+
+        EmployeeBulkCreateResponse result = employeeBulkService.createEmployees(
+                new EmployeeBulkCreateRequest(List.of(request("a"), request("b"), request("c"))));
+
+
+        assertEquals(3, result.getCreated());
+        assertEquals(List.of(100L, 101L, 102L), result.getIds());
+        verify(employeeRepository, times(1)).findExistingEmails(anyList());
+        verify(departmentRepository, times(1)).findAllById(any());
+        verify(passwordHashingService).encodeDefaultPasswords(2);
+        verify(passwordHashingService).encodeDefaultPasswords(1);
+        verify(employeeBatchWriter, times(2)).insert(anyList());
+        verify(employeeRepository, never()).existsByEmail(any());
+    }
+
+    @Test
+    void createEmployees_ReportsCommittedChunksWhenALaterOneFails() {
+        when(employeeRepository.findExistingEmails(anyList())).thenReturn(List.of());
+        when(departmentRepository.findAllById(Set.of(1L))).thenReturn(List.of(department));
+        when(passwordHashingService.encodeDefaultPasswords(anyInt()))
+                .thenAnswer(invocation -> Collections.nCopies(invocation.<Integer>getArgument(0), "hashed"));
+        when(employeeMapper.toEntity(any(EmployeeRequest.class), eq(department), eq("hashed"))).thenAnswer(invocation -> {
+            EmployeeRequest request = invocation.getArgument(0);
+            return new Employee(request.getName(), request.getEmail(), request.getSalary(), new Date(), department);
+        });
+        doAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            employees.get(0).setId(100L);
+            employees.get(1).setId(101L);
+            return null;
+        }).doThrow(new DataIntegrityViolationException("duplicate email"))
+                .when(employeeBatchWriter).insert(anyList());
+
+
+        EmployeeBulkCreateResponse result = employeeBulkService.createEmployees(
+                new EmployeeBulkCreateRequest(List.of(request("a"), request("b"), request("c"))));
+
+
+        assertEquals(2, result.getCreated());
+        assertEquals(List.of(100L, 101L), result.getIds());
+        assertEquals(1, result.getFailed());
+        assertEquals("Inserting the remaining employees failed", result.getError());
+    }
+
+    @Test
+    void createEmployees_FirstChunkFailureIsThrown() {
+        when(employeeRepository.findExistingEmails(anyList())).thenReturn(List.of());
+        when(departmentRepository.findAllById(Set.of(1L))).thenReturn(List.of(department));
+        when(passwordHashingService.encodeDefaultPasswords(anyInt()))
+                .thenAnswer(invocation -> Collections.nCopies(invocation.<Integer>getArgument(0), "hashed"));
+        doThrow(new DataIntegrityViolationException("duplicate email")).when(employeeBatchWriter).insert(anyList());
+
+
+        assertThrows(DataIntegrityViolationException.class, () -> employeeBulkService.createEmployees(
+                new EmployeeBulkCreateRequest(List.of(request("a"), request("b"), request("c")))));
+
+
+        verify(employeeBatchWriter, times(1)).insert(anyList());
+    }
+
+    @Test
+    void createEmployees_TooMany() {
+
+        List<EmployeeRequest> requests = List.of(request("a"), request("b"), request("c"), request("d"), request("e"), request("f"));
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            employeeBulkService.createEmployees(new EmployeeBulkCreateRequest(requests));
+        });
+
+        assertEquals("At most 5 employees can be created at once", exception.getMessage());
+        verifyNoInteractions(employeeRepository, employeeBatchWriter);
+    }
+
+    @Test
+    void createEmployees_DuplicateEmailInRequest() {
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            employeeBulkService.createEmployees(new EmployeeBulkCreateRequest(List.of(request("a"), request("b"), request("a"))));
+        });
+
+        assertEquals("Emails appear more than once in the request: [a@example.com]", exception.getMessage());
+        verifyNoInteractions(employeeRepository, employeeBatchWriter);
+    }
+
+    @Test
+    void createEmployees_EmailAlreadyExists() {
+        when(employeeRepository.findExistingEmails(anyList())).thenReturn(List.of("b@example.com"));
+
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            employeeBulkService.createEmployees(new EmployeeBulkCreateRequest(List.of(request("a"), request("b"))));
+        });
+
+
+        assertEquals("Employees with emails [b@example.com] already exist", exception.getMessage());
+        assertEquals(409, exception.getStatusCode());
+        verifyNoInteractions(departmentRepository, employeeBatchWriter);
+    }
+
+    @Test
+    void createEmployees_DepartmentNotFound() {
+        EmployeeRequest otherDepartment = request("b");
+        otherDepartment.setDepartmentId(7L);
+        when(employeeRepository.findExistingEmails(anyList())).thenReturn(List.of());
+        when(departmentRepository.findAllById(any())).thenReturn(List.of(department));
+
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            employeeBulkService.createEmployees(new EmployeeBulkCreateRequest(List.of(request("a"), otherDepartment)));
+        });
+
+
+        assertEquals("Departments with IDs [7] not found", exception.getMessage());
+        verifyNoInteractions(employeeMapper, employeeBatchWriter);
+    }
+
+    @Test
+    void updateEmployees_OneStatementPerChangeSet() {
+        when(employeeRepository.findSnapshotsByIdIn(anyList())).thenReturn(List.of(
+                snapshot(1L, "a"), snapshot(2L, "b"), snapshot(3L, "c"), snapshot(4L, "d")));
+        when(departmentRepository.findAllById(Set.of(2L))).thenReturn(List.of(department(2L)));
+        when(employeeRepository.findContactsByEmailIn(List.of("b@example.com")))
+                .thenReturn(List.of(new EmployeeContactProjection(2L, "b", "b@example.com")));
+
+
+        EmployeeBulkOperationResponse result = employeeBulkService.updateEmployees(new EmployeeBulkUpdateRequest(List.of(
+                patch(1L, 2L, null),
+                patch(2L, 2L, null),
+                patch(3L, null, "b@example.com"),
+                patch(4L, null, null),
+                patch(9L, 2L, null))));
+
+
+        assertEquals(2, result.getSucceeded());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(BulkOutcomeStatus.UPDATED, BulkOutcomeStatus.UPDATED, BulkOutcomeStatus.CONFLICT,
+                        BulkOutcomeStatus.REJECTED, BulkOutcomeStatus.NOT_FOUND),
+                result.getResults().stream().map(EmployeeBulkOutcome::getStatus).toList());
+        assertEquals("Employee with email b@example.com already exists", result.getResults().get(2).getMessage());
+        verify(employeeRepository, times(1)).updateAll(List.of(1L, 2L), new EmployeeChanges(null, null, null, null, 2L));
+        verify(employeeRepository, times(1)).updateAll(anyList(), any());
+        verify(eventPublisher, times(2)).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    void updateEmployees_DuplicateIds() {
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            employeeBulkService.updateEmployees(new EmployeeBulkUpdateRequest(List.of(patch(1L, 2L, null), patch(1L, 3L, null))));
+        });
+
+        assertEquals("Employee IDs appear more than once in the request: [1]", exception.getMessage());
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void deleteEmployees_SkipsMissingAndOwnAccount() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new EmployeePrincipal(1L, "a@example.com", "", "ADMIN", 1L), null, List.of()));
+        when(employeeRepository.findSnapshotsByIdIn(anyList())).thenReturn(List.of(
+                snapshot(1L, "a"), snapshot(2L, "b"), snapshot(3L, "c")));
+
+
+        EmployeeBulkOperationResponse result = employeeBulkService.deleteEmployees(
+                new EmployeeBulkDeleteRequest(List.of(1L, 2L, 3L, 2L, 9L)));
+
+
+        assertEquals(2, result.getSucceeded());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of(BulkOutcomeStatus.REJECTED, BulkOutcomeStatus.DELETED, BulkOutcomeStatus.DELETED, BulkOutcomeStatus.NOT_FOUND),
+                result.getResults().stream().map(EmployeeBulkOutcome::getStatus).toList());
+        assertEquals("You cannot delete your own account", result.getResults().get(0).getMessage());
+        verify(employeeRepository, times(1)).deleteAllByIdInBatch(List.of(2L, 3L));
+        verify(eventPublisher, times(2)).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    void adjustSalaries_UpdatesInWindowsOfMatchedIds() {
+        SalaryChange change = new SalaryChange(SalaryAdjustmentType.PERCENTAGE, new BigDecimal("4"));
+        when(employeeRepository.aggregateSalaryAdjustment(any(), eq(change))).thenReturn(
+                new SalaryAdjustmentAggregate(3L, 3000.0, 900.0, 1100.0, 3120.0, 936.0, 1144.0, 5L, 25000L));
+        // Sparse IDs: the tenth matched employee after 4 is 140, and fewer than ten are left after that
+        when(employeeRepository.findSalaryAdjustmentWindowEnd(any(), eq(4L), eq(10))).thenReturn(140L);
+        when(employeeRepository.findSalaryAdjustmentWindowEnd(any(), eq(140L), eq(10))).thenReturn(null);
+        when(employeeRepository.adjustSalaries(any(), eq(change), anyLong(), anyLong())).thenReturn(2, 1);
+
+
+        SalaryAdjustmentResponse result = employeeBulkService.adjustSalaries(adjustment(SalaryAdjustmentType.PERCENTAGE, "4", false));
+
+
+        assertEquals(3, result.getAffected());
+        assertEquals(1000.0, result.getBefore().getAverage());
+        assertEquals(1040.0, result.getAfter().getAverage());
+        assertEquals(1144.0, result.getAfter().getMax());
+        verify(employeeRepository).adjustSalaries(any(), eq(change), eq(5L), eq(140L));
+        verify(employeeRepository).adjustSalaries(any(), eq(change), eq(141L), eq(25000L));
+        verify(employeeRepository, times(2)).adjustSalaries(any(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void adjustSalaries_DryRunChangesNothing() {
+        when(employeeRepository.aggregateSalaryAdjustment(any(), any())).thenReturn(
+                new SalaryAdjustmentAggregate(2L, 2000.0, 900.0, 1100.0, 2100.0, 950.0, 1150.0, 1L, 2L));
+
+
+        SalaryAdjustmentResponse result = employeeBulkService.adjustSalaries(adjustment(SalaryAdjustmentType.AMOUNT, "50", true));
+
+
+        assertTrue(result.isDryRun());
+        assertEquals(2, result.getAffected());
+        assertEquals(2100.0, result.getAfter().getTotal());
+        verify(employeeRepository, never()).adjustSalaries(any(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void adjustSalaries_WouldMakeSalaryNonPositive() {
+        when(employeeRepository.aggregateSalaryAdjustment(any(), any())).thenReturn(
+                new SalaryAdjustmentAggregate(2L, 2000.0, 900.0, 1100.0, 0.0, -100.0, 100.0, 1L, 2L));
+
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            employeeBulkService.adjustSalaries(adjustment(SalaryAdjustmentType.AMOUNT, "-1000", false));
+        });
+
+
+        assertEquals("The adjustment would reduce salaries to zero or below", exception.getMessage());
+        verify(employeeRepository, never()).adjustSalaries(any(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void adjustSalaries_RequiresCriteria() {
+        SalaryAdjustmentRequest request = adjustment(SalaryAdjustmentType.PERCENTAGE, "4", false);
+        request.setDepartmentId(null);
+        request.setHiredTo(null);
+
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            employeeBulkService.adjustSalaries(request);
+        });
+
+
+        assertEquals("At least one criterion is required", exception.getMessage());
+        verifyNoInteractions(employeeRepository);
+    }
+
+    private static SalaryAdjustmentRequest adjustment(SalaryAdjustmentType type, String value, boolean dryRun) {
+        SalaryAdjustmentRequest request = new SalaryAdjustmentRequest();
+        request.setDepartmentId(1L);
+        request.setHiredTo(LocalDate.of(2022, 12, 31));
+        request.setType(type);
+        request.setValue(new BigDecimal(value));
+        request.setDryRun(dryRun);
+        return request;
+    }
+
+    private static EmployeeSnapshot snapshot(Long id, String name) {
+        return new EmployeeSnapshot(id, name, name + "@example.com", "USER", 1L);
+    }
+
+    private static Department department(Long id) {
+        Department department = new Department("Department " + id);
+        department.setId(id);
+        return department;
+    }
+
+    private static EmployeePatchRequest patch(Long id, Long departmentId, String email) {
+        EmployeePatchRequest patch = new EmployeePatchRequest();
+        patch.setId(id);
+        patch.setDepartmentId(departmentId);
+        patch.setEmail(email);
+        return patch;
+    }
+
+    private static EmployeeRequest request(String name) {
+        return new EmployeeRequest(name, name + "@example.com", 40000.0, "2024-01-01", 1L);
+    }
+}
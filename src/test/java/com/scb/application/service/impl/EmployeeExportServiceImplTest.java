@@ -0,0 +1,95 @@
+package com.scb.application.service.impl;
+
+import com.scb.application.dto.projection.EmployeeProjection;
+import com.scb.application.enums.ExportFormat;
+import com.scb.application.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeExportServiceImplTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private EmployeeExportServiceImpl employeeExportService;
+
+    private EmployeeProjection firstEmployee;
+    private EmployeeProjection secondEmployee;
+
+    @BeforeEach
+    void setUp() {
+        // Setup common test data
+        firstEmployee = new EmployeeProjection(1L, "Ali Taha", "ali@example.com", "USER", 50000.0,
+                Date.valueOf(LocalDate.of(2023, 1, 15)), 2L, "IT", 0L, 0L);
+        secondEmployee = new EmployeeProjection(2L, "Mariam", "mariam@example.com", "ADMIN", 65000.5,
+                Date.valueOf(LocalDate.of(2022, 9, 5)), 3L, "Research, Development", 0L, 0L);
+    }
+
+    @Test
+    void exportEmployees_Ndjson() throws IOException {
+
+        when(employeeRepository.streamAllForExport()).thenReturn(Stream.of(firstEmployee, secondEmployee));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+
+        long exported = employeeExportService.exportEmployees(ExportFormat.NDJSON, output);
+
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(2, lines.length);
+        assertEquals("{\"id\":1,\"name\":\"Ali Taha\",\"email\":\"ali@example.com\",\"role\":\"USER\",\"salary\":50000.0,"
+                + "\"hireDate\":\"2023-01-15\",\"departmentId\":2,\"departmentName\":\"IT\"}", lines[0]);
+        assertTrue(lines[1].startsWith("{\"id\":2,"));
+
+        verify(employeeRepository).streamAllForExport();
+    }
+
+    @Test
+    void exportEmployees_Csv() throws IOException {
+
+        when(employeeRepository.streamAllForExport()).thenReturn(Stream.of(firstEmployee, secondEmployee));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+
+        long exported = employeeExportService.exportEmployees(ExportFormat.CSV, output);
+
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(3, lines.length);
+        assertEquals("id,name,email,role,salary,hireDate,departmentId,departmentName", lines[0]);
+        assertEquals("1,Ali Taha,ali@example.com,USER,50000.0,2023-01-15,2,IT", lines[1]);
+        assertEquals("2,Mariam,mariam@example.com,ADMIN,65000.5,2022-09-05,3,\"Research, Development\"", lines[2]);
+    }
+
+    @Test
+    void exportEmployees_EmptyTable() throws IOException {
+
+        when(employeeRepository.streamAllForExport()).thenReturn(Stream.empty());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+
+        long exported = employeeExportService.exportEmployees(ExportFormat.NDJSON, output);
+
+
+        assertEquals(0, exported);
+        assertEquals(0, output.size());
+    }
+}
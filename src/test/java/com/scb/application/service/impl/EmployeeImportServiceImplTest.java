@@ -0,0 +1,169 @@
+package com.scb.application.service.impl;
+
+import com.scb.application.dto.response.EmployeeImportJobResponse;
+import com.scb.application.entity.Department;
+import com.scb.application.entity.Employee;
+import com.scb.application.enums.ImportJobStatus;
+import com.scb.application.exception.ApiException;
+import com.scb.application.mapper.EmployeeMapper;
+import com.scb.application.repository.DepartmentRepository;
+import com.scb.application.repository.EmployeeRepository;
+import com.scb.application.service.PasswordHashingService;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeImportServiceImplTest {
+
+    private static final String HEADER = "name,email,salary,hireDate,departmentId\n";
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private EmployeeBatchWriter employeeBatchWriter;
+
+    private ValidatorFactory validatorFactory;
+    private EmployeeImportServiceImpl employeeImportService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        // Runs each job on the calling thread, so it has finished when startImport returns
+        employeeImportService = new EmployeeImportServiceImpl(employeeRepository, departmentRepository, new EmployeeMapper(),
+                passwordHashingService, employeeBatchWriter, validatorFactory.getValidator(), Runnable::run, 2, Duration.ofHours(1));
+
+        Department department = new Department("IT");
+        department.setId(1L);
+        lenient().when(departmentRepository.findAll()).thenReturn(List.of(department));
+        lenient().when(passwordHashingService.encodeDefaultPasswords(anyInt()))
+                .thenAnswer(invocation -> Collections.nCopies(invocation.<Integer>getArgument(0), "hashed"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void startImport_InsertsValidRowsInChunks() {
+        when(employeeRepository.findExistingEmails(anyList())).thenReturn(List.of());
+
+
+        EmployeeImportJobResponse result = employeeImportService.startImport(csv(HEADER
+                + "Alice,alice@example.com,40000,2024-01-01,1\n"
+                + "\"O'Brien, Bob\",bob@example.com,41000,2024-01-02,1\n"
+                + "Carol,carol@example.com,42000,2024-01-03,1\n"));
+
+
+        assertEquals(ImportJobStatus.COMPLETED, result.getStatus());
+        assertEquals(3, result.getProcessedRows());
+        assertEquals(3, result.getImportedRows());
+        assertEquals(0, result.getFailedRows());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Employee>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(employeeBatchWriter, times(2)).insert(chunks.capture());
+        assertEquals(List.of(2, 1), chunks.getAllValues().stream().map(List::size).toList());
+        assertEquals("O'Brien, Bob", chunks.getAllValues().get(0).get(1).getName());
+        verify(passwordHashingService).encodeDefaultPasswords(2);
+        verify(passwordHashingService).encodeDefaultPasswords(1);
+        verify(departmentRepository, times(1)).findAll();
+    }
+
+    @Test
+    void startImport_WritesRejectedRowsToErrorFile() throws IOException {
+        when(employeeRepository.findExistingEmails(anyList()))
+                .thenAnswer(invocation -> invocation.<List<String>>getArgument(0).contains("taken@example.com")
+                        ? List.of("taken@example.com") : List.of());
+
+
+        EmployeeImportJobResponse result = employeeImportService.startImport(csv(HEADER
+                + "Alice,not-an-email,40000,2024-01-01,1\n"
+                + "Bob,bob@example.com,abc,2024-01-01,1\n"
+                + "Carol,carol@example.com,42000,2024-01-01,9\n"
+                + "Dave,taken@example.com,43000,2024-01-01,1\n"
+                + "Erin,erin@example.com,44000,2024-01-01,1\n"));
+        String errors = employeeImportService.getImportErrors(result.getJobId()).getContentAsString(StandardCharsets.UTF_8);
+
+
+        assertEquals(5, result.getProcessedRows());
+        assertEquals(1, result.getImportedRows());
+        assertEquals(4, result.getFailedRows());
+        assertEquals(EmployeeImportServiceImpl.ERROR_FILE_HEADER + "\n"
+                + "2,not-an-email,Email should be valid\n"
+                + "3,bob@example.com,Salary must be a valid number\n"
+                + "4,carol@example.com,Department not found with ID: 9\n"
+                + "5,taken@example.com,Employee with this email already exists\n", errors);
+        verify(employeeBatchWriter, times(1)).insert(anyList());
+    }
+
+    @Test
+    void startImport_RollsBackChunkOnInsertFailure() {
+        when(employeeRepository.findExistingEmails(anyList())).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("duplicate")).doNothing().when(employeeBatchWriter).insert(anyList());
+
+
+        EmployeeImportJobResponse result = employeeImportService.startImport(csv(HEADER
+                + "Alice,alice@example.com,40000,2024-01-01,1\n"
+                + "Bob,bob@example.com,41000,2024-01-01,1\n"
+                + "Carol,carol@example.com,42000,2024-01-01,1\n"));
+
+
+        assertEquals(ImportJobStatus.COMPLETED, result.getStatus());
+        assertEquals(1, result.getImportedRows());
+        assertEquals(2, result.getFailedRows());
+    }
+
+    @Test
+    void startImport_MissingColumns() {
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            employeeImportService.startImport(csv("name,email\nAlice,alice@example.com\n"));
+        });
+
+        assertEquals("Import file is missing columns: [salary, hireDate, departmentId]", exception.getMessage());
+        assertEquals(400, exception.getStatusCode());
+        verifyNoInteractions(employeeRepository, employeeBatchWriter);
+    }
+
+    @Test
+    void getImportJob_NotFound() {
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            employeeImportService.getImportJob("missing");
+        });
+
+        assertEquals("Import job not found with ID: missing", exception.getMessage());
+        assertEquals(404, exception.getStatusCode());
+    }
+
+    private static MockMultipartFile csv(String content) {
+        return new MockMultipartFile("file", "employees.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,26 +1,49 @@
 package com.scb.application.service.impl;
 
+import com.scb.application.constants.PaginationConstants;
+import com.scb.application.dto.projection.EmployeeProjection;
+import com.scb.application.dto.projection.TableVersion;
+import com.scb.application.dto.request.EmployeeBatchGetRequest;
 import com.scb.application.dto.request.EmployeeRequest;
+import com.scb.application.dto.request.EmployeeSearchRequest;
+import com.scb.application.dto.response.CursorPageResponse;
+import com.scb.application.dto.response.EmployeeBatchGetResponse;
 import com.scb.application.dto.response.EmployeeResponse;
+import com.scb.application.dto.response.EmployeeSuggestionResponse;
+import com.scb.application.dto.response.PageResponse;
 import com.scb.application.entity.Department;
 import com.scb.application.entity.Employee;
+import com.scb.application.event.EmployeeChangedEvent;
+import com.scb.application.event.EmployeeSnapshot;
 import com.scb.application.exception.ApiException;
 import com.scb.application.mapper.EmployeeMapper;
 import com.scb.application.repository.DepartmentRepository;
 import com.scb.application.repository.EmployeeRepository;
+import com.scb.application.search.EmployeeSuggestionIndex;
+import com.scb.application.security.EmployeePrincipal;
+import com.scb.application.service.PasswordHashingService;
+import com.scb.application.utils.CursorCodec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.mockito.stubbing.OngoingStubbing;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -43,6 +66,18 @@ class EmployeeServiceImplTest {
     @Mock
     private EmployeeMapper employeeMapper;
 
+    @Mock
+    private EmployeeSuggestionIndex employeeSuggestionIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @Mock
     private SecurityContext securityContext;
 
@@ -56,6 +91,7 @@ class EmployeeServiceImplTest {
     private Employee employee;
     private Department department;
     private EmployeeResponse employeeResponse;
+    private EmployeeProjection employeeProjection;
     private Date hireDate;
 
     @BeforeEach
@@ -83,6 +119,8 @@ class EmployeeServiceImplTest {
         employeeRequest.setHireDate("2023-01-01");
         employeeRequest.setDepartmentId(1L);
 
+        employeeProjection = new EmployeeProjection(1L, "ali", "ali@example.com", "USER", 50000.0, hireDate, 1L, "IT", 0L, 0L);
+
         employeeResponse = new EmployeeResponse();
         employeeResponse.setId(1L);
         employeeResponse.setName("ahmed");
@@ -96,8 +134,11 @@ class EmployeeServiceImplTest {
     @Test
     void createEmployee_Success() {
         when(employeeRepository.existsByEmail(anyString())).thenReturn(false);
-        when(departmentRepository.findById(anyLong())).thenReturn(Optional.of(department));
-        when(employeeMapper.toEntity(any(EmployeeRequest.class), any(Department.class))).thenReturn(employee);
+        when(departmentRepository.findCachedById(anyLong())).thenReturn(Optional.of(department));
+        when(passwordHashingService.encodeDefaultPassword()).thenReturn("hashed");
+        when(employeeMapper.toEntity(any(EmployeeRequest.class), any(Department.class), eq("hashed"))).thenReturn(employee);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
         when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
         when(employeeMapper.toResponseDto(any(Employee.class))).thenReturn(employeeResponse);
 
@@ -110,10 +151,12 @@ class EmployeeServiceImplTest {
         assertEquals(employeeResponse.getEmail(), result.getEmail());
 
         verify(employeeRepository).existsByEmail(employeeRequest.getEmail());
-        verify(departmentRepository).findById(employeeRequest.getDepartmentId());
-        verify(employeeMapper).toEntity(employeeRequest, department);
+        verify(departmentRepository).findCachedById(employeeRequest.getDepartmentId());
+        verify(employeeMapper).toEntity(employeeRequest, department, "hashed");
+        verify(transactionTemplate).execute(any());
         verify(employeeRepository).save(employee);
         verify(employeeMapper).toResponseDto(employee);
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.created(EmployeeSnapshot.of(employee)));
     }
 
     @Test
@@ -129,15 +172,16 @@ class EmployeeServiceImplTest {
         assertEquals("Employee with email " + employeeRequest.getEmail() + " already exists", exception.getMessage());
 
         verify(employeeRepository).existsByEmail(employeeRequest.getEmail());
-        verify(departmentRepository, never()).findById(anyLong());
-        verify(employeeMapper, never()).toEntity(any(), any());
+        verify(departmentRepository, never()).findCachedById(anyLong());
+        verify(employeeMapper, never()).toEntity(any(), any(), any());
         verify(employeeRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     void createEmployee_DepartmentNotFound() {
         when(employeeRepository.existsByEmail(anyString())).thenReturn(false);
-        when(departmentRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(departmentRepository.findCachedById(anyLong())).thenReturn(Optional.empty());
         
         ApiException exception = assertThrows(ApiException.class, () -> {
             employeeService.createEmployee(employeeRequest);
@@ -146,35 +190,216 @@ class EmployeeServiceImplTest {
         assertEquals("Department with ID " + employeeRequest.getDepartmentId() + " not found", exception.getMessage());
 
         verify(employeeRepository).existsByEmail(employeeRequest.getEmail());
-        verify(departmentRepository).findById(employeeRequest.getDepartmentId());
-        verify(employeeMapper, never()).toEntity(any(), any());
+        verify(departmentRepository).findCachedById(employeeRequest.getDepartmentId());
+        verify(employeeMapper, never()).toEntity(any(), any(), any());
         verify(employeeRepository, never()).save(any());
+        verifyNoInteractions(passwordHashingService, transactionTemplate);
     }
 
     @Test
-    void getAllEmployees_Success() {
-        
-        List<Employee> employees = Arrays.asList(employee);
-        when(employeeRepository.findAll()).thenReturn(employees);
-        when(employeeMapper.toResponseDto(any(Employee.class))).thenReturn(employeeResponse);
+    void getEmployees_FirstPage() {
+
+        List<EmployeeProjection> employees = Arrays.asList(employeeProjection);
+        when(employeeRepository.findPageAfter(eq(0L), any(Pageable.class))).thenReturn(employees);
+        when(employeeMapper.toResponseDto(any(EmployeeProjection.class))).thenReturn(employeeResponse);
 
-   
-        List<EmployeeResponse> result = employeeService.getAllEmployees();
+
+        CursorPageResponse<EmployeeResponse> result = employeeService.getEmployees(null, null, null);
 
 
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(employeeResponse.getId(), result.get(0).getId());
+        assertEquals(1, result.getItems().size());
+        assertEquals(employeeResponse.getId(), result.getItems().get(0).getId());
+        assertNull(result.getNextCursor());
+        assertEquals(PaginationConstants.DEFAULT_LIMIT, result.getLimit());
+
+        verify(employeeRepository).findPageAfter(0L, PageRequest.of(0, PaginationConstants.DEFAULT_LIMIT + 1));
+        verify(employeeMapper, times(1)).toResponseDto(any(EmployeeProjection.class));
+    }
+
+    @Test
+    void getEmployees_HasNextPage() {
+
+        EmployeeProjection secondEmployee = new EmployeeProjection(2L, "omar", "omar@example.com", "USER", 40000.0, hireDate, 1L, "IT", 0L, 0L);
+        when(employeeRepository.findPageAfter(eq(0L), any(Pageable.class))).thenReturn(Arrays.asList(employeeProjection, secondEmployee));
+        when(employeeMapper.toResponseDto(any(EmployeeProjection.class))).thenReturn(employeeResponse);
+
+
+        CursorPageResponse<EmployeeResponse> result = employeeService.getEmployees(null, 1, null);
+
+
+        assertEquals(1, result.getItems().size());
+        assertEquals(CursorCodec.encode(null, 1L), result.getNextCursor());
+        verify(employeeMapper, times(1)).toResponseDto(employeeProjection);
+    }
+
+    @Test
+    void getEmployees_ByDepartmentWithCursor() {
+
+        String cursor = CursorCodec.encode(1L, 10L);
+        when(employeeRepository.findDepartmentPageAfter(eq(1L), eq(10L), any(Pageable.class))).thenReturn(Arrays.asList(employeeProjection));
+        when(employeeMapper.toResponseDto(any(EmployeeProjection.class))).thenReturn(employeeResponse);
+
+
+        CursorPageResponse<EmployeeResponse> result = employeeService.getEmployees(cursor, 20, 1L);
+
+
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+        verify(employeeRepository).findDepartmentPageAfter(1L, 10L, PageRequest.of(0, 21));
+        verify(employeeRepository, never()).findPageAfter(anyLong(), any());
+    }
+
+    @Test
+    void getEmployees_CursorFromOtherDepartment() {
+
+        String cursor = CursorCodec.encode(2L, 10L);
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            employeeService.getEmployees(cursor, 20, 1L);
+        });
+
+        assertEquals("Cursor does not match the requested department filter", exception.getMessage());
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void getEmployees_InvalidLimit() {
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            employeeService.getEmployees(null, PaginationConstants.MAX_LIMIT + 1, null);
+        });
+
+        assertEquals("Limit must be between 1 and " + PaginationConstants.MAX_LIMIT, exception.getMessage());
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void getEmployeesETag_CoversEmployeesAndDepartments() {
+        when(employeeRepository.findTableVersion()).thenReturn(new TableVersion(20L, 57L));
+        when(departmentRepository.findTableVersion()).thenReturn(new TableVersion(4L, 12L));
+
+
+        String eTag = employeeService.getEmployeesETag();
+
+
+        assertEquals("20.57-4.12", eTag);
+        verify(employeeRepository, never()).findPageAfter(anyLong(), any());
+    }
+
+    @Test
+    void searchEmployees_Success() {
+
+        EmployeeSearchRequest searchRequest = new EmployeeSearchRequest();
+        searchRequest.setDepartmentId(1L);
+        searchRequest.setMinSalary(40000.0);
+        searchRequest.setHiredFrom(LocalDate.of(2022, 1, 1));
+        searchRequest.setRole("user");
+        searchRequest.setSort("salary,desc");
+        searchRequest.setSize(10);
+        when(employeeRepository.search(any(), any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(List.of(employeeProjection), invocation.getArgument(1), 11));
+        when(employeeMapper.toResponseDto(any(EmployeeProjection.class))).thenReturn(employeeResponse);
+
+
+        PageResponse<EmployeeResponse> result = employeeService.searchEmployees(searchRequest);
+
+
+        assertEquals(1, result.getItems().size());
+        assertEquals(0, result.getPage());
+        assertEquals(10, result.getSize());
+        assertEquals(11, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+
+        verify(employeeRepository).search(any(), eq(PageRequest.of(0, 10,
+                Sort.by(Sort.Direction.DESC, "salary").and(Sort.by(Sort.Direction.ASC, "id")))));
+    }
+
+    @Test
+    void searchEmployees_InvalidSortProperty() {
+
+        EmployeeSearchRequest searchRequest = new EmployeeSearchRequest();
+        searchRequest.setSort("password");
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            employeeService.searchEmployees(searchRequest);
+        });
+
+        assertTrue(exception.getMessage().startsWith("Sort must be one of"));
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void searchEmployees_InvertedSalaryRange() {
+
+        EmployeeSearchRequest searchRequest = new EmployeeSearchRequest();
+        searchRequest.setMinSalary(60000.0);
+        searchRequest.setMaxSalary(50000.0);
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            employeeService.searchEmployees(searchRequest);
+        });
+
+        assertEquals("Minimum salary cannot be greater than maximum salary", exception.getMessage());
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void searchEmployees_UnknownRole() {
+
+        EmployeeSearchRequest searchRequest = new EmployeeSearchRequest();
+        searchRequest.setRole("MANAGER");
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            employeeService.searchEmployees(searchRequest);
+        });
+
+        assertEquals("Unknown role: MANAGER", exception.getMessage());
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void suggestEmployees_Success() {
+        EmployeeSuggestionResponse suggestion = new EmployeeSuggestionResponse(1L, "ali", "ali@example.com");
+        when(employeeSuggestionIndex.suggest("al", PaginationConstants.DEFAULT_SUGGESTION_LIMIT))
+                .thenReturn(List.of(suggestion));
+
+
+        List<EmployeeSuggestionResponse> result = employeeService.suggestEmployees("al", null);
+
 
-        verify(employeeRepository).findAll();
-        verify(employeeMapper, times(1)).toResponseDto(any(Employee.class));
+        assertEquals(List.of(suggestion), result);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void suggestEmployees_BlankQuery() {
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            employeeService.suggestEmployees("  ", 5);
+        });
+
+        assertEquals("Query must be between 1 and " + PaginationConstants.MAX_SUGGESTION_QUERY_LENGTH + " characters",
+                exception.getMessage());
+        verifyNoInteractions(employeeSuggestionIndex);
+    }
+
+    @Test
+    void suggestEmployees_InvalidLimit() {
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            employeeService.suggestEmployees("ali", PaginationConstants.MAX_SUGGESTION_LIMIT + 1);
+        });
+
+        assertEquals("Limit must be between 1 and " + PaginationConstants.MAX_SUGGESTION_LIMIT, exception.getMessage());
+        verifyNoInteractions(employeeSuggestionIndex);
     }
 
     @Test
     void getEmployeeById_Success() {
 
-        when(employeeRepository.findById(anyLong())).thenReturn(Optional.of(employee));
-        OngoingStubbing<EmployeeResponse> employeeResponseOngoingStubbing = when(employeeMapper.toResponseDto(any(Employee.class))).thenReturn(employeeResponse);
+        when(employeeRepository.findProjectionById(anyLong())).thenReturn(Optional.of(employeeProjection));
+        when(employeeMapper.toResponseDto(any(EmployeeProjection.class))).thenReturn(employeeResponse);
 
 
         EmployeeResponse result = employeeService.getEmployeeById(1L);
@@ -182,13 +407,14 @@ class EmployeeServiceImplTest {
         assertNotNull(result);
         assertEquals(employeeResponse.getId(), result.getId());
 
-        verify(employeeRepository).findById(1L);
-        verify(employeeMapper).toResponseDto(employee);
+        verify(employeeRepository).findProjectionById(1L);
+        verify(employeeRepository, never()).findById(anyLong());
+        verify(employeeMapper).toResponseDto(employeeProjection);
     }
 
     @Test
     void getEmployeeById_NotFound() {
-        when(employeeRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(employeeRepository.findProjectionById(anyLong())).thenReturn(Optional.empty());
         
         ApiException exception = assertThrows(ApiException.class, () -> {
             employeeService.getEmployeeById(1L);
@@ -196,14 +422,50 @@ class EmployeeServiceImplTest {
 
         assertEquals("Employee with ID 1 not found", exception.getMessage());
 
-        verify(employeeRepository).findById(1L);
-        verify(employeeMapper, never()).toResponseDto(any());
+        verify(employeeRepository).findProjectionById(1L);
+        verify(employeeMapper, never()).toResponseDto(any(EmployeeProjection.class));
+    }
+
+    @Test
+    void getEmployeesByIds_PreservesRequestOrderAndReportsMisses() {
+        EmployeeProjection second = new EmployeeProjection(2L, "omar", "omar@example.com", "USER", 40000.0, hireDate, 1L, "IT", 0L, 0L);
+        EmployeeResponse secondResponse = EmployeeResponse.builder().id(2L).name("omar").build();
+        when(employeeRepository.findProjectionsByIdIn(List.of(2L, 9L, 1L))).thenReturn(List.of(employeeProjection, second));
+        when(employeeMapper.toResponseDto(employeeProjection)).thenReturn(employeeResponse);
+        when(employeeMapper.toResponseDto(second)).thenReturn(secondResponse);
+
+
+        EmployeeBatchGetResponse result = employeeService.getEmployeesByIds(
+                new EmployeeBatchGetRequest(List.of(2L, 9L, 1L, 2L)));
+
+
+        assertEquals(List.of(secondResponse, employeeResponse), result.getEmployees());
+        assertEquals(List.of(9L), result.getMissingIds());
+        verify(employeeRepository, times(1)).findProjectionsByIdIn(any());
+    }
+
+    @Test
+    void getEmployeesByIds_QueriesInChunks() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= PaginationConstants.IN_CLAUSE_CHUNK_SIZE + 1; id++) {
+            ids.add(id);
+        }
+        when(employeeRepository.findProjectionsByIdIn(any())).thenReturn(List.of());
+
+
+        EmployeeBatchGetResponse result = employeeService.getEmployeesByIds(new EmployeeBatchGetRequest(ids));
+
+
+        assertTrue(result.getEmployees().isEmpty());
+        assertEquals(ids, result.getMissingIds());
+        verify(employeeRepository, times(2)).findProjectionsByIdIn(any());
+        verify(employeeRepository).findProjectionsByIdIn(List.of((long) PaginationConstants.IN_CLAUSE_CHUNK_SIZE + 1));
     }
 
     @Test
     void updateEmployee_Success() {
         when(employeeRepository.findById(anyLong())).thenReturn(Optional.of(employee));
-        when(departmentRepository.findById(anyLong())).thenReturn(Optional.of(department));
+        when(departmentRepository.findCachedById(anyLong())).thenReturn(Optional.of(department));
         when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
         when(employeeMapper.toResponseDto(any(Employee.class))).thenReturn(employeeResponse);
         
@@ -213,9 +475,10 @@ class EmployeeServiceImplTest {
         assertEquals(employeeResponse.getId(), result.getId());
 
         verify(employeeRepository).findById(1L);
-        verify(departmentRepository).findById(employeeRequest.getDepartmentId());
+        verify(departmentRepository).findCachedById(employeeRequest.getDepartmentId());
         verify(employeeRepository).save(employee);
         verify(employeeMapper).toResponseDto(employee);
+        verify(eventPublisher).publishEvent(any(EmployeeChangedEvent.class));
     }
 
     @Test
@@ -231,7 +494,7 @@ class EmployeeServiceImplTest {
         assertEquals("Employee with ID 1 not found", exception.getMessage());
 
         verify(employeeRepository).findById(1L);
-        verify(departmentRepository, never()).findById(anyLong());
+        verify(departmentRepository, never()).findCachedById(anyLong());
         verify(employeeRepository, never()).save(any());
     }
 
@@ -256,33 +519,33 @@ class EmployeeServiceImplTest {
 
         verify(employeeRepository).findById(1L);
         verify(employeeRepository).existsByEmail(employeeRequest.getEmail());
-        verify(departmentRepository, never()).findById(anyLong());
+        verify(departmentRepository, never()).findCachedById(anyLong());
         verify(employeeRepository, never()).save(any());
     }
 
     @Test
     void deleteEmployee_Success() {
  
-        when(employeeRepository.existsById(anyLong())).thenReturn(true);
         when(employeeRepository.findById(anyLong())).thenReturn(Optional.of(employee));
 
 
         SecurityContextHolder.setContext(securityContext);
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.isAuthenticated()).thenReturn(true);
-        when(authentication.getName()).thenReturn("different.email@example.com");
+        when(authentication.getPrincipal()).thenReturn(new EmployeePrincipal(2L, "different.email@example.com", "", "ADMIN", 1L));
 
         employeeService.deleteEmployee(1L);
 
 
-        verify(employeeRepository).existsById(1L);
         verify(employeeRepository).findById(1L);
-        verify(employeeRepository).deleteById(1L);
+        verify(employeeRepository).delete(employee);
+        verify(employeeRepository, never()).existsById(anyLong());
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.deleted(EmployeeSnapshot.of(employee)));
     }
 
     @Test
     void deleteEmployee_NotFound() {
-        when(employeeRepository.existsById(anyLong())).thenReturn(false);
+        when(employeeRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         ApiException exception = assertThrows(ApiException.class, () -> {
             employeeService.deleteEmployee(1L);
@@ -290,20 +553,19 @@ class EmployeeServiceImplTest {
 
         assertEquals("Employee with ID 1 not found", exception.getMessage());
 
-        verify(employeeRepository).existsById(1L);
-        verify(employeeRepository, never()).deleteById(anyLong());
+        verify(employeeRepository).findById(1L);
+        verify(employeeRepository, never()).delete(any(Employee.class));
     }
 
     @Test
     void deleteEmployee_CannotDeleteOwnAccount() {
         
-        when(employeeRepository.existsById(anyLong())).thenReturn(true);
         when(employeeRepository.findById(anyLong())).thenReturn(Optional.of(employee));
         
         SecurityContextHolder.setContext(securityContext);
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.isAuthenticated()).thenReturn(true);
-        when(authentication.getName()).thenReturn(employee.getEmail());
+        when(authentication.getPrincipal()).thenReturn(new EmployeePrincipal(1L, employee.getEmail(), "", employee.getRole(), 1L));
         
         ApiException exception = assertThrows(ApiException.class, () -> {
             employeeService.deleteEmployee(1L);
@@ -311,8 +573,7 @@ class EmployeeServiceImplTest {
 
         assertEquals("You cannot delete your own account", exception.getMessage());
 
-        verify(employeeRepository).existsById(1L);
         verify(employeeRepository).findById(1L);
-        verify(employeeRepository, never()).deleteById(anyLong());
+        verify(employeeRepository, never()).delete(any(Employee.class));
     }
 }
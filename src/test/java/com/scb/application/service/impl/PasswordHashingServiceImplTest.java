@@ -0,0 +1,64 @@
+package com.scb.application.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingServiceImplTest {
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+    private final Set<String> hashingThreads = ConcurrentHashMap.newKeySet();
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+    private PasswordHashingServiceImpl passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "hashing-test"));
+        passwordHashingService = new PasswordHashingServiceImpl(passwordEncoder,
+                task -> executor.execute(() -> {
+                    hashingThreads.add(Thread.currentThread().getName());
+                    task.run();
+                }),
+                meterRegistry, "password");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void encodeDefaultPassword_HashesOnTheExecutor() {
+
+        String hash = passwordHashingService.encodeDefaultPassword();
+
+        assertTrue(passwordEncoder.matches("password", hash));
+        assertEquals(Set.of("hashing-test"), hashingThreads);
+        assertEquals(1, meterRegistry.get("password.hashing").timer().count());
+    }
+
+    @Test
+    void encodeDefaultPasswords_SaltsEveryHash() {
+
+        List<String> hashes = passwordHashingService.encodeDefaultPasswords(5);
+
+        assertEquals(5, hashes.size());
+        assertEquals(5, new HashSet<>(hashes).size());
+        assertTrue(hashes.stream().allMatch(hash -> passwordEncoder.matches("password", hash)));
+        assertEquals(5, meterRegistry.get("password.hashing").timer().count());
+    }
+}
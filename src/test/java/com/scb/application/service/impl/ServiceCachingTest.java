@@ -0,0 +1,150 @@
+package com.scb.application.service.impl;
+
+import com.scb.application.config.CacheConfig;
+import com.scb.application.constants.CacheNames;
+import com.scb.application.dto.projection.EmployeeProjection;
+import com.scb.application.dto.request.DepartmentRequest;
+import com.scb.application.dto.response.DepartmentResponse;
+import com.scb.application.dto.response.EmployeeResponse;
+import com.scb.application.entity.Department;
+import com.scb.application.entity.Employee;
+import com.scb.application.headcount.DepartmentHeadcountRegistry;
+import com.scb.application.mapper.DepartmentMapper;
+import com.scb.application.mapper.EmployeeMapper;
+import com.scb.application.repository.DepartmentRepository;
+import com.scb.application.repository.EmployeeRepository;
+import com.scb.application.search.EmployeeSuggestionIndex;
+import com.scb.application.service.DepartmentService;
+import com.scb.application.service.EmployeeService;
+import com.scb.application.service.PasswordHashingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Checks the cache annotations of the employee and department services through real Spring proxies.
+ */
+@SpringJUnitConfig
+class ServiceCachingTest {
+
+    @Configuration
+    @Import({CacheConfig.class, EmployeeServiceImpl.class, DepartmentServiceImpl.class})
+    static class TestConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheNames.EMPLOYEES, CacheNames.DEPARTMENTS, CacheNames.DEPARTMENT_ENTITIES);
+        }
+    }
+
+    @MockBean
+    private EmployeeRepository employeeRepository;
+
+    @MockBean
+    private DepartmentRepository departmentRepository;
+
+    @MockBean
+    private EmployeeMapper employeeMapper;
+
+    @MockBean
+    private DepartmentMapper departmentMapper;
+
+    @MockBean
+    private EmployeeSuggestionIndex employeeSuggestionIndex;
+
+    @MockBean
+    private PasswordHashingService passwordHashingService;
+
+    @MockBean
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private DepartmentHeadcountRegistry headcountRegistry;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Department department;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        SecurityContextHolder.clearContext();
+
+        department = new Department("IT");
+        department.setId(1L);
+
+        EmployeeProjection employeeProjection =
+                new EmployeeProjection(1L, "ali", "ali@example.com", "USER", 50000.0, new Date(), 1L, "IT", 0L, 0L);
+        when(employeeRepository.findProjectionById(1L)).thenReturn(Optional.of(employeeProjection));
+        when(employeeMapper.toResponseDto(any(EmployeeProjection.class)))
+                .thenReturn(EmployeeResponse.builder().id(1L).name("ali").build());
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
+        when(departmentMapper.toResponseDto(any(Department.class)))
+                .thenReturn(DepartmentResponse.builder().id(1L).name("IT").build());
+    }
+
+    @Test
+    void getEmployeeById_ServedFromCacheUntilDeleted() {
+        employeeService.getEmployeeById(1L);
+        EmployeeResponse cached = employeeService.getEmployeeById(1L);
+
+        assertEquals("ali", cached.getName());
+        verify(employeeRepository, times(1)).findProjectionById(1L);
+
+
+        Employee employee = new Employee("ali", "ali@example.com", 50000.0, new Date(), department);
+        employee.setId(1L);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        employeeService.deleteEmployee(1L);
+        employeeService.getEmployeeById(1L);
+
+        verify(employeeRepository, times(2)).findProjectionById(1L);
+    }
+
+    @Test
+    void getDepartmentById_ServedFromCacheUntilUpdated() {
+        departmentService.getDepartmentById(1L);
+        departmentService.getDepartmentById(1L);
+
+        verify(departmentRepository, times(1)).findById(1L);
+
+
+        employeeService.getEmployeeById(1L);
+        DepartmentRequest rename = new DepartmentRequest();
+        rename.setName("Engineering");
+        when(departmentRepository.findAll()).thenReturn(List.of(department));
+        when(departmentRepository.save(any(Department.class))).thenReturn(department);
+        departmentService.updateDepartment(1L, rename);
+
+        departmentService.getDepartmentById(1L);
+        employeeService.getEmployeeById(1L);
+
+        // One read before the update, one inside it and one after it
+        verify(departmentRepository, times(3)).findById(1L);
+        verify(employeeRepository, times(2)).findProjectionById(1L);
+    }
+}
@@ -0,0 +1,125 @@
+package com.scb.application.service.impl;
+
+import com.scb.application.dto.projection.DepartmentHire;
+import com.scb.application.dto.response.SummaryBackfillResponse;
+import com.scb.application.exception.ApiException;
+import com.scb.application.repository.DailySummaryRepository;
+import com.scb.application.repository.DepartmentRepository;
+import com.scb.application.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SummaryBackfillServiceImplTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private DailySummaryRepository dailySummaryRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ForkJoinPool backfillPool;
+    private SummaryBackfillServiceImpl summaryBackfillService;
+
+    @BeforeEach
+    void setUp() {
+        backfillPool = new ForkJoinPool(2);
+        summaryBackfillService = new SummaryBackfillServiceImpl(employeeRepository, departmentRepository,
+                dailySummaryRepository, transactionTemplate, backfillPool, 10, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        backfillPool.shutdown();
+    }
+
+    @Test
+    void backfillSummaries_WritesEveryDayAndDepartmentInPartitions() {
+        when(departmentRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        when(employeeRepository.findHiresUpTo(any(Date.class))).thenReturn(List.of(
+                new DepartmentHire(1L, FROM.minusDays(1)),
+                new DepartmentHire(2L, FROM.plusDays(20))
+        ));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(dailySummaryRepository.upsertSummaryRange(any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<LocalDate[]>getArgument(0).length);
+
+
+        SummaryBackfillResponse result = summaryBackfillService.backfillSummaries(FROM, FROM.plusDays(29));
+
+
+        assertEquals(30, result.getDays());
+        assertEquals(2, result.getDepartments());
+        assertEquals(60, result.getSummaries());
+
+        ArgumentCaptor<LocalDate[]> dates = ArgumentCaptor.forClass(LocalDate[].class);
+        ArgumentCaptor<Long[]> counts = ArgumentCaptor.forClass(Long[].class);
+        ArgumentCaptor<Long[]> newHires = ArgumentCaptor.forClass(Long[].class);
+        verify(dailySummaryRepository, atLeast(3)).upsertSummaryRange(dates.capture(), any(), counts.capture(), newHires.capture());
+        verify(employeeRepository).findHiresUpTo(java.sql.Date.valueOf(FROM.plusDays(29)));
+        long written = dates.getAllValues().stream().mapToLong(partition -> partition.length).sum();
+        assertEquals(60, written);
+        long secondDepartmentDays = counts.getAllValues().stream()
+                .flatMap(Arrays::stream)
+                .filter(count -> count == 1L)
+                .count();
+        // Department 1 counts one employee every day, department 2 from the 21st day on
+        assertEquals(30 + 10, secondDepartmentDays);
+        // Only department 2 hires inside the range, and only on the 21st day
+        assertEquals(1, newHires.getAllValues().stream().flatMap(Arrays::stream).mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    void backfillSummaries_FutureDatesRejected() {
+
+        ApiException exception = assertThrows(ApiException.class, () ->
+                summaryBackfillService.backfillSummaries(LocalDate.now(), LocalDate.now().plusDays(1)));
+
+        assertEquals(400, exception.getStatusCode());
+        verifyNoInteractions(employeeRepository, dailySummaryRepository);
+    }
+
+    @Test
+    void backfillSummaries_RangeTooLong() {
+
+        ApiException exception = assertThrows(ApiException.class, () ->
+                summaryBackfillService.backfillSummaries(FROM, FROM.plusDays(100)));
+
+        assertEquals("At most 100 days can be backfilled at once", exception.getMessage());
+        verifyNoInteractions(employeeRepository, dailySummaryRepository);
+    }
+
+    @Test
+    void backfillSummaries_StartAfterEnd() {
+
+        assertThrows(ApiException.class, () -> summaryBackfillService.backfillSummaries(FROM, FROM.minusDays(1)));
+
+        verifyNoInteractions(employeeRepository, dailySummaryRepository);
+    }
+}
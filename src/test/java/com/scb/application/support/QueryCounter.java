@@ -0,0 +1,35 @@
+package com.scb.application.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the JDBC statements Hibernate prepares, so repository tests can pin the number of
+ * round trips a read path needs and fail as soon as an N+1 pattern creeps back in.
+ */
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    public long count() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    public void assertAtMost(long maxStatements) {
+        long executed = count();
+        assertTrue(executed <= maxStatements,
+                "Expected at most " + maxStatements + " SQL statements but " + executed + " were executed");
+    }
+}
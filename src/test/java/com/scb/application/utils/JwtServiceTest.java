@@ -0,0 +1,70 @@
+package com.scb.application.utils;
+
+import com.scb.application.security.EmployeePrincipal;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final EmployeePrincipal user = new EmployeePrincipal(1L, "Ahmed@test.com", "password", "ADMIN", 2L);
+
+    private MeterRegistry meterRegistry;
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(SECRET, 60_000, 100, meterRegistry);
+    }
+
+    @Test
+    void verify_ReturnsClaims() {
+        String token = jwtService.generateToken(user);
+
+        VerifiedToken verified = jwtService.verify(token);
+
+        assertEquals("Ahmed@test.com", verified.subject());
+        assertEquals("ADMIN", verified.role());
+        assertEquals(1L, verified.employeeId());
+        assertEquals(2L, verified.departmentId());
+        assertFalse(verified.isExpired(Instant.now()));
+    }
+
+    @Test
+    void verify_RepeatedTokenServedFromCache() {
+        String token = jwtService.generateToken(user);
+
+        VerifiedToken first = jwtService.verify(token);
+        VerifiedToken second = jwtService.verify(token);
+
+        assertSame(first, second);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "verifiedTokens").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void verify_TamperedTokenRejected() {
+        String token = jwtService.generateToken(user);
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + parts[1].substring(0, parts[1].length() - 2) + "AA." + parts[2];
+
+        assertThrows(JwtException.class, () -> jwtService.verify(forged));
+    }
+
+    @Test
+    void verify_ExpiredTokenRejected() {
+        JwtService expiring = new JwtService(SECRET, -1_000, 100, meterRegistry);
+        String token = expiring.generateToken(user);
+
+        assertThrows(ExpiredJwtException.class, () -> expiring.verify(token));
+    }
+}